@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.boot;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Derives the boot timeline of a runtime from the lifecycle messages logged by the boot loader for every extension
+ * ({@code Initialized}, {@code Prepared} and {@code Started}), timed on arrival, until the runtime is ready. The time
+ * between two messages is attributed to the extension of the second one; the time before the first message, which is
+ * spent loading the configuration and resolving the dependency graph, is reported as resolution.
+ */
+public class BootTimelineRecorder {
+
+    private static final Pattern LIFECYCLE = Pattern.compile("^(Initialized|Prepared|Started) (.+)$");
+    private static final Pattern READY = Pattern.compile("^Runtime .* ready.*");
+
+    private final long bootStart;
+    private final Map<String, double[]> extensions = new LinkedHashMap<>();
+    private long lastEvent;
+    private double resolutionMillis = -1;
+    private double bootMillis = -1;
+
+    /**
+     * Creates a recorder.
+     *
+     * @param bootStart the {@link System#nanoTime()} the boot started at
+     */
+    public BootTimelineRecorder(long bootStart) {
+        this.bootStart = bootStart;
+        this.lastEvent = bootStart;
+    }
+
+    /**
+     * Records a message of the runtime. The messages logged once the runtime is ready are ignored.
+     *
+     * @param message  the message
+     * @param nanoTime the {@link System#nanoTime()} the message was logged at
+     * @return true if the message reports the runtime as ready
+     */
+    public synchronized boolean onMessage(String message, long nanoTime) {
+        if (isReady() || message == null) {
+            return false;
+        }
+        if (READY.matcher(message).matches()) {
+            bootMillis = toMillis(nanoTime - bootStart);
+            return true;
+        }
+        var lifecycle = LIFECYCLE.matcher(message);
+        if (!lifecycle.matches()) {
+            return false;
+        }
+        var elapsed = toMillis(nanoTime - lastEvent);
+        lastEvent = nanoTime;
+        if (resolutionMillis < 0) {
+            resolutionMillis = elapsed;
+            elapsed = 0;
+        }
+        var phase = switch (lifecycle.group(1)) {
+            case "Initialized" -> 0;
+            case "Prepared" -> 1;
+            default -> 2;
+        };
+        extensions.computeIfAbsent(lifecycle.group(2), name -> new double[3])[phase] += elapsed;
+        return false;
+    }
+
+    public synchronized boolean isReady() {
+        return bootMillis >= 0;
+    }
+
+    /**
+     * The time from the boot start to the runtime being ready.
+     *
+     * @return the time in milliseconds, or a negative value if the runtime is not ready yet
+     */
+    public synchronized double bootMillis() {
+        return bootMillis;
+    }
+
+    /**
+     * The time before the first extension lifecycle event.
+     *
+     * @return the time in milliseconds
+     */
+    public synchronized double resolutionMillis() {
+        return Math.max(resolutionMillis, 0);
+    }
+
+    /**
+     * The timings of the extensions recorded so far, in the order the extensions were booted.
+     *
+     * @return the timings
+     */
+    public synchronized List<ExtensionTimings> extensions() {
+        var timings = new ArrayList<ExtensionTimings>();
+        extensions.forEach((name, phases) -> timings.add(new ExtensionTimings(name, phases[0], phases[1], phases[2])));
+        return timings;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Timings of an extension.
+     *
+     * @param name             the extension name
+     * @param initializeMillis the time spent in {@code initialize}, including the injection
+     * @param prepareMillis    the time spent in {@code prepare}
+     * @param startMillis      the time spent in {@code start}
+     */
+    public record ExtensionTimings(String name, double initializeMillis, double prepareMillis, double startMillis) {
+    }
+}
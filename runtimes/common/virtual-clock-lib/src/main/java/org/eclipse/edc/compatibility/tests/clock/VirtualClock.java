@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.clock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Clock} that runs with a base clock, shifted by an offset that can only grow. Time never goes backward,
+ * since the leases and the state timestamps already stored by the runtime would otherwise lie in the future.
+ */
+public class VirtualClock extends Clock {
+
+    private final Clock base;
+    private final AtomicReference<Duration> offset;
+
+    public VirtualClock(Clock base) {
+        this(base, new AtomicReference<>(Duration.ZERO));
+    }
+
+    private VirtualClock(Clock base, AtomicReference<Duration> offset) {
+        this.base = base;
+        this.offset = offset;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param duration the duration to advance by, not negative
+     * @return the offset from the base clock after the advance
+     */
+    public Duration advance(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("The clock cannot go backward: " + duration);
+        }
+        return offset.accumulateAndGet(duration, Duration::plus);
+    }
+
+    public Duration offset() {
+        return offset.get();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return base.getZone();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        // the offset is shared, so the clocks derived in another zone advance as well
+        return new VirtualClock(base.withZone(zone), offset);
+    }
+
+    @Override
+    public Instant instant() {
+        return base.instant().plus(offset.get());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.boot;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Monitor that derives the boot timeline of the runtime from the lifecycle messages logged by the boot loader, through
+ * a {@link BootTimelineRecorder}, and writes it as JSON when the runtime is ready.
+ * <p>
+ * Messages are recorded whatever their level, and then passed to the delegate.
+ */
+public class BootTimelineMonitor implements Monitor {
+
+    private final Monitor delegate;
+    private final Path file;
+    private final BootTimelineRecorder recorder = new BootTimelineRecorder(System.nanoTime());
+
+    public BootTimelineMonitor(Monitor delegate, Path file) {
+        this.delegate = delegate;
+        this.file = file;
+    }
+
+    @Override
+    public void severe(Supplier<String> supplier, Throwable... errors) {
+        delegate.severe(supplier, errors);
+    }
+
+    @Override
+    public void severe(Map<String, Object> data) {
+        delegate.severe(data);
+    }
+
+    @Override
+    public void warning(Supplier<String> supplier, Throwable... errors) {
+        delegate.warning(supplier, errors);
+    }
+
+    @Override
+    public void info(Supplier<String> supplier, Throwable... errors) {
+        delegate.info(record(supplier), errors);
+    }
+
+    @Override
+    public void debug(Supplier<String> supplier, Throwable... errors) {
+        delegate.debug(record(supplier), errors);
+    }
+
+    private Supplier<String> record(Supplier<String> supplier) {
+        if (recorder.isReady()) {
+            return supplier;
+        }
+        var message = supplier.get();
+        if (recorder.onMessage(message, System.nanoTime())) {
+            write();
+        }
+        return () -> message;
+    }
+
+    private void write() {
+        var json = new StringBuilder()
+                .append("{\n  \"bootMillis\": ").append(format(recorder.bootMillis()))
+                .append(",\n  \"resolutionMillis\": ").append(format(recorder.resolutionMillis()))
+                .append(",\n  \"extensions\": [");
+        var first = true;
+        for (var extension : recorder.extensions()) {
+            json.append(first ? "\n" : ",\n").append("    {\"name\": \"").append(escape(extension.name())).append('"')
+                    .append(", \"initializeMillis\": ").append(format(extension.initializeMillis()))
+                    .append(", \"prepareMillis\": ").append(format(extension.prepareMillis()))
+                    .append(", \"startMillis\": ").append(format(extension.startMillis()))
+                    .append('}');
+            first = false;
+        }
+        json.append("\n  ]\n}\n");
+        try {
+            Files.writeString(file, json);
+        } catch (IOException e) {
+            delegate.warning("Cannot write the boot timeline to " + file, e);
+        }
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.3f", millis);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.boot;
+
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MonitorExtension;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Provides a {@link BootTimelineMonitor} that logs to the console. The monitor is created before the configuration
+ * is loaded, so the timeline file is set with the {@code EDC_BOOT_TIMELINE_FILE} environment variable.
+ */
+public class BootTimelineMonitorExtension implements MonitorExtension {
+
+    public static final String BOOT_TIMELINE_FILE_ENV = "EDC_BOOT_TIMELINE_FILE";
+    public static final String DEFAULT_BOOT_TIMELINE_FILE = "boot-timeline.json";
+
+    @Override
+    public Monitor getMonitor() {
+        var file = Objects.requireNonNullElse(System.getenv(BOOT_TIMELINE_FILE_ENV), DEFAULT_BOOT_TIMELINE_FILE);
+        return new BootTimelineMonitor(new ConsoleMonitor(), Path.of(file));
+    }
+}
@@ -15,6 +15,9 @@
 import com.bmuschko.gradle.docker.tasks.image.DockerBuildImage
 import com.github.jengelman.gradle.plugins.shadow.ShadowJavaPlugin
 import com.github.jengelman.gradle.plugins.shadow.tasks.ShadowJar.Companion.shadowJar
+import org.gradle.api.artifacts.component.ComponentIdentifier
+import org.gradle.api.artifacts.component.ModuleComponentIdentifier
+import org.gradle.api.artifacts.component.ProjectComponentIdentifier
 
 plugins {
     id("application")
@@ -28,6 +31,8 @@ dependencies {
     api(stableLibs.edc.spi.web)
     runtimeOnly(stableLibs.edc.bom.dataplane)
     runtimeOnly(stableLibs.edc.bom.dataplane.sql)
+    runtimeOnly(project(":runtimes:stable:boot-timeline"))
+    runtimeOnly(project(":runtimes:stable:virtual-clock"))
 }
 
 tasks.shadowJar {
@@ -54,6 +59,66 @@ tasks.register("dockerize", DockerBuildImage::class) {
     if (System.getProperty("platform") != null)
         platform.set(System.getProperty("platform"))
     buildArgs.put("JAR", "build/libs/${project.name}.jar")
+    // the AOT cache training run can be skipped with -Daot=false, and its duration set with -DaotTrainingSeconds
+    buildArgs.put("AOT_CACHE", System.getProperty("aot", "true"))
+    buildArgs.put("AOT_TRAINING_SECONDS", System.getProperty("aotTrainingSeconds", "30"))
     inputDir.set(file(dockerContextDir))
     dependsOn(tasks.shadowJar)
 }
+
+// the layered variant runs the jars on a jlink-trimmed JRE, with the dependencies, the EDC libraries and the project
+// classes in separate image layers, so that a change to one of them does not invalidate the others
+val layeredDockerContextDir = layout.buildDirectory.dir("docker-layered")
+val runtimeArtifacts = configurations.runtimeClasspath.get().incoming.artifacts.resolvedArtifacts
+
+fun runtimeJars(filter: (ComponentIdentifier) -> Boolean) = runtimeArtifacts.map { artifacts ->
+    artifacts.filter { filter(it.id.componentIdentifier) }.map { it.file }
+}
+
+fun isEdc(id: ComponentIdentifier) = id is ModuleComponentIdentifier && id.group.startsWith("org.eclipse.edc")
+
+val layeredDockerContext = tasks.register("layeredDockerContext", Sync::class) {
+    dependsOn(configurations.runtimeClasspath)
+    into(layeredDockerContextDir)
+    from("src/main/docker/Dockerfile.layered")
+    into("lib/deps") {
+        from(runtimeJars { it is ModuleComponentIdentifier && !isEdc(it) })
+    }
+    into("lib/edc") {
+        from(runtimeJars { isEdc(it) })
+    }
+    into("lib/app") {
+        from(runtimeJars { it is ProjectComponentIdentifier })
+        from(tasks.jar)
+    }
+}
+
+tasks.register("dockerizeLayered", DockerBuildImage::class) {
+    dockerFile.set(layeredDockerContextDir.map { it.file("Dockerfile.layered") })
+    images.add("${project.name}:${stableLibs.versions.edc.get()}-layered")
+    images.add("${project.name}:layered")
+    if (System.getProperty("platform") != null)
+        platform.set(System.getProperty("platform"))
+    buildArgs.put("MAIN_CLASS", application.mainClass)
+    buildArgs.put("AOT_CACHE", System.getProperty("aot", "true"))
+    buildArgs.put("AOT_TRAINING_SECONDS", System.getProperty("aotTrainingSeconds", "30"))
+    inputDir.set(layeredDockerContextDir)
+    dependsOn(layeredDockerContext)
+}
+
+// records how long every image took to build, the compatibility tests report it next to the image size
+tasks.withType<DockerBuildImage>().configureEach {
+    val buildTimes = rootProject.layout.buildDirectory.dir("docker-build-times")
+    var start = 0L
+    doFirst { start = System.nanoTime() }
+    doLast {
+        val millis = (System.nanoTime() - start) / 1_000_000
+        images.get().forEach { image ->
+            buildTimes.get().file(image.replace(':', '_') + ".txt").asFile.apply {
+                parentFile.mkdirs()
+                writeText(millis.toString())
+            }
+        }
+        logger.lifecycle("Built ${images.get().joinToString()} in $millis ms")
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests;
+
+import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of successful token authorizations, keyed by the SHA-256 hash of the token. Entries expire after the
+ * configured TTL or at the token {@code exp}, whichever comes first. Suspending or terminating a transfer revokes its
+ * token by deleting the access token data, so every hit is checked against the {@link AccessTokenDataStore}: that is
+ * a primary-key lookup, while JWT parsing, signature verification and claim validation are skipped.
+ */
+public class AuthorizationCache {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final Map<String, Entry> entries;
+    private final AccessTokenDataStore accessTokenDataStore;
+    private final TypeManager typeManager;
+    private final Clock clock;
+    private final Duration ttl;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public AuthorizationCache(AccessTokenDataStore accessTokenDataStore, TypeManager typeManager, Clock clock, Duration ttl, int maxEntries) {
+        this.accessTokenDataStore = accessTokenDataStore;
+        this.typeManager = typeManager;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Returns the cached authorization for the token, or delegates to the authorizer and caches its successful result.
+     *
+     * @param token      the token
+     * @param authorizer the authorization to be used on cache misses
+     * @return the authorization result and whether it came from the cache
+     */
+    public Lookup authorize(String token, Function<String, Result<DataAddress>> authorizer) {
+        var key = hash(token);
+        var now = clock.instant();
+
+        var entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt().isAfter(now) && accessTokenDataStore.getById(entry.tokenId()) != null) {
+                hits.incrementAndGet();
+                return new Lookup(Result.success(entry.dataAddress()), true);
+            }
+            entries.remove(key);
+        }
+
+        misses.incrementAndGet();
+        var result = authorizer.apply(token);
+        if (result.succeeded()) {
+            var claims = claims(token);
+            if (claims != null && claims.get("jti") instanceof String tokenId) {
+                var expiresAt = now.plus(ttl);
+                if (claims.get("exp") instanceof Number exp) {
+                    var tokenExpiration = Instant.ofEpochSecond(exp.longValue());
+                    expiresAt = tokenExpiration.isBefore(expiresAt) ? tokenExpiration : expiresAt;
+                }
+                if (expiresAt.isAfter(now)) {
+                    entries.put(key, new Entry(tokenId, result.getContent(), expiresAt));
+                }
+            }
+        }
+        return new Lookup(result, false);
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> claims(String token) {
+        var jwt = token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
+        var parts = jwt.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            var payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            return typeManager.readValue(payload, Map.class);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Lookup(Result<DataAddress> result, boolean cached) {
+    }
+
+    private record Entry(String tokenId, DataAddress dataAddress, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.stream.Stream;
+
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN;
+
+/**
+ * Exposes the peak heap usage of the data plane JVM, so that the tests can measure the heap a transfer takes in a
+ * container as they do for the in-process runtimes. Pools peak independently, so the sum is an upper bound of the
+ * real peak.
+ */
+@Path("/heap")
+@Produces(TEXT_PLAIN)
+public class HeapUsageController {
+
+    @GET
+    @Path("/peak")
+    public String peak() {
+        return String.valueOf(heapPools().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum());
+    }
+
+    @POST
+    @Path("/peak/reset")
+    public void resetPeak() {
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private Stream<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(MemoryPoolMXBean::isValid);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.security.Vault;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory vault that falls back to lazily read seed sources: a secret that has not been stored is looked up in the
+ * sources on first resolution and cached, so a runtime can be seeded with many secrets without reading them at boot.
+ * A deleted secret is not read again from the sources.
+ */
+public class SeededVault implements Vault {
+
+    private final Map<String, String> secrets = new ConcurrentHashMap<>();
+    private final Set<String> deleted = ConcurrentHashMap.newKeySet();
+    private final List<SecretSource> sources;
+    private final Monitor monitor;
+
+    public SeededVault(List<SecretSource> sources, Monitor monitor) {
+        this.sources = sources;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public String resolveSecret(String key) {
+        var secret = secrets.get(key);
+        if (secret != null || deleted.contains(key)) {
+            return secret;
+        }
+        for (var source : sources) {
+            try {
+                var value = source.read(key);
+                if (value != null) {
+                    var existing = secrets.putIfAbsent(key, value);
+                    return existing != null ? existing : value;
+                }
+            } catch (IOException e) {
+                monitor.warning("Cannot read secret %s from %s".formatted(key, source), e);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Result<Void> storeSecret(String key, String value) {
+        deleted.remove(key);
+        secrets.put(key, value);
+        return Result.success();
+    }
+
+    @Override
+    public Result<Void> deleteSecret(String key) {
+        deleted.add(key);
+        secrets.remove(key);
+        return Result.success();
+    }
+
+    /**
+     * Source of secrets read on demand.
+     */
+    public interface SecretSource {
+
+        /**
+         * Reads a secret.
+         *
+         * @param key the secret key
+         * @return the secret value, or null if the source does not contain it
+         */
+        String read(String key) throws IOException;
+
+        /**
+         * A directory containing one file per secret, named after the secret key.
+         *
+         * @param directory the directory
+         * @return the source
+         */
+        static SecretSource directory(Path directory) {
+            var root = directory.toAbsolutePath().normalize();
+            return new SecretSource() {
+                @Override
+                public String read(String key) throws IOException {
+                    var file = root.resolve(key).normalize();
+                    if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+                        return null;
+                    }
+                    return Files.readString(file);
+                }
+
+                @Override
+                public String toString() {
+                    return "directory " + root;
+                }
+            };
+        }
+
+        /**
+         * A single file in {@link Properties} format, indexing all the secrets by key. Multi-line values, such as PEM
+         * bodies, are written with {@code \n} escapes. The file is read on the first lookup.
+         *
+         * @param file the file
+         * @return the source
+         */
+        static SecretSource file(Path file) {
+            return new SecretSource() {
+                private volatile Properties index;
+
+                @Override
+                public String read(String key) throws IOException {
+                    return index().getProperty(key);
+                }
+
+                private Properties index() throws IOException {
+                    var current = index;
+                    if (current == null) {
+                        synchronized (this) {
+                            current = index;
+                            if (current == null) {
+                                current = new Properties();
+                                try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                                    current.load(reader);
+                                }
+                                index = current;
+                            }
+                        }
+                    }
+                    return current;
+                }
+
+                @Override
+                public String toString() {
+                    return "file " + file;
+                }
+            };
+        }
+    }
+}
@@ -14,13 +14,20 @@
 
 package org.eclipse.edc.compatibility.tests;
 
-import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Map;
 
+/**
+ * Provides a {@link SeededVault} seeded with the secrets in the {@code testing.edc.vaults.N.key/value} partitions,
+ * which are stored at boot, and with the secrets of a directory ({@code testing.edc.vaults.directory}, one file per
+ * secret) and/or of an indexed file ({@code testing.edc.vaults.file}), which are read on first resolution.
+ */
 public class VaultSeedExtension implements ServiceExtension {
 
 
@@ -28,16 +35,30 @@ public class VaultSeedExtension implements ServiceExtension {
 
     public static final String VAULT_TESTING_KEY = "key";
     public static final String VAULT_TESTING_VALUE = "value";
+    public static final String VAULT_TESTING_DIRECTORY = "directory";
+    public static final String VAULT_TESTING_FILE = "file";
 
-    @Inject
     private Vault vault;
-    
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         ServiceExtension.super.initialize(context);
 
         var config = context.getConfig(VAULT_TESTING_PREFIX);
-        var secrets = config.partition().map((partition) -> {
+
+        var sources = new ArrayList<SeededVault.SecretSource>();
+        var directory = config.getString(VAULT_TESTING_DIRECTORY, null);
+        if (directory != null) {
+            sources.add(SeededVault.SecretSource.directory(Path.of(directory)));
+        }
+        var file = config.getString(VAULT_TESTING_FILE, null);
+        if (file != null) {
+            sources.add(SeededVault.SecretSource.file(Path.of(file)));
+        }
+        vault = new SeededVault(sources, context.getMonitor());
+
+        // the source settings are partitions as well, but have no key
+        var secrets = config.partition().filter(partition -> partition.hasKey(VAULT_TESTING_KEY)).map((partition) -> {
             var key = partition.getString(VAULT_TESTING_KEY);
             var value = partition.getString(VAULT_TESTING_VALUE);
             return Map.entry(key, value);
@@ -45,4 +66,9 @@ public class VaultSeedExtension implements ServiceExtension {
 
         secrets.forEach(secret -> vault.storeSecret(secret.getKey(), secret.getValue()));
     }
-}
\ No newline at end of file
+
+    @Provider
+    public Vault vault() {
+        return vault;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.heap;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.InetSocketAddress;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Exposes the peak heap usage of the runtime JVM, so that the tests can measure the heap of a runtime in a container
+ * as they do for the in-process runtimes. When {@code testing.edc.heap.port} is set, it is served through a plain HTTP
+ * endpoint on that port, outside of the EDC web server:
+ * <ul>
+ *     <li>{@code GET /heap/peak} returns the peak heap usage in bytes</li>
+ *     <li>{@code POST /heap/peak/reset} resets it</li>
+ * </ul>
+ * Pools peak independently, so the sum is an upper bound of the real peak.
+ */
+public class HeapUsageExtension implements ServiceExtension {
+
+    public static final String HEAP_PORT = "testing.edc.heap.port";
+    public static final String PATH = "/heap";
+
+    private HttpServer server;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var port = context.getConfig().getInteger(HEAP_PORT, null);
+        if (port != null) {
+            try {
+                server = HttpServer.create(new InetSocketAddress(port), 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            server.createContext(PATH, this::handle);
+            server.start();
+            context.getMonitor().info("Heap usage served on port %d".formatted(port));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            var path = exchange.getRequestURI().getPath();
+            if ("GET".equals(exchange.getRequestMethod()) && (PATH + "/peak").equals(path)) {
+                var peak = heapPools().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+                respond(exchange, String.valueOf(peak));
+            } else if ("POST".equals(exchange.getRequestMethod()) && (PATH + "/peak/reset").equals(path)) {
+                heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+                exchange.sendResponseHeaders(204, -1);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Stream<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(MemoryPoolMXBean::isValid);
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        var bytes = body.getBytes(UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (var responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+}
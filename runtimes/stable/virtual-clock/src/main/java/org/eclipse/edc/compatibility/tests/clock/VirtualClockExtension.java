@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.clock;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Provides a {@link VirtualClock} in place of the system clock, so that tests can let contracts and tokens expire
+ * without waiting for them. When {@code testing.edc.clock.port} is set, the clock is controlled through a plain HTTP
+ * endpoint on that port, outside of the EDC web server:
+ * <ul>
+ *     <li>{@code GET /clock} returns the current instant and offset</li>
+ *     <li>{@code POST /clock/advance?by=PT1H} moves the clock forward by an ISO-8601 duration</li>
+ * </ul>
+ */
+public class VirtualClockExtension implements ServiceExtension {
+
+    public static final String CLOCK_PORT = "testing.edc.clock.port";
+    public static final String PATH = "/clock";
+
+    private VirtualClock clock;
+    private HttpServer server;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        clock = new VirtualClock(context.getClock());
+
+        var port = context.getConfig().getInteger(CLOCK_PORT, null);
+        if (port != null) {
+            try {
+                server = HttpServer.create(new InetSocketAddress(port), 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            server.createContext(PATH, this::handle);
+            server.start();
+            context.getMonitor().info("Virtual clock controlled on port %d".formatted(port));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Provider
+    public Clock clock() {
+        return clock;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            var path = exchange.getRequestURI().getPath();
+            if ("GET".equals(exchange.getRequestMethod()) && PATH.equals(path)) {
+                respond(exchange, 200, state());
+            } else if ("POST".equals(exchange.getRequestMethod()) && (PATH + "/advance").equals(path)) {
+                advance(exchange);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void advance(HttpExchange exchange) throws IOException {
+        var query = exchange.getRequestURI().getQuery();
+        if (query == null || !query.startsWith("by=")) {
+            respond(exchange, 400, "{\"error\":\"missing 'by' query parameter\"}");
+            return;
+        }
+        try {
+            clock.advance(Duration.parse(query.substring("by=".length())));
+            respond(exchange, 200, state());
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            respond(exchange, 400, "{\"error\":\"%s\"}".formatted(e.getMessage().replace("\"", "'")));
+        }
+    }
+
+    private String state() {
+        return "{\"instant\":\"%s\",\"offset\":\"%s\"}".formatted(clock.instant(), clock.offset());
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        var bytes = body.getBytes(UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (var responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+}
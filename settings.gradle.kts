@@ -42,14 +42,20 @@ dependencyResolutionManagement {
 }
 
 // add dependencies
+include(":runtimes:common:boot-timeline-lib")
+include(":runtimes:common:virtual-clock-lib")
 include(":runtimes:snapshot:controlplane-snapshot-base")
 include(":runtimes:snapshot:controlplane-snapshot")
 include(":runtimes:snapshot:controlplane-snapshot-dcp")
 include(":runtimes:snapshot:dataplane-snapshot")
 include(":runtimes:snapshot:issuerservice-snapshot")
 include(":runtimes:snapshot:identity-hub-snapshot")
+include(":runtimes:stable:boot-timeline")
 include(":runtimes:stable:controlplane-stable")
 include(":runtimes:stable:dataplane-stable")
+include(":runtimes:stable:heap-usage")
+include(":runtimes:stable:virtual-clock")
 include(":tests:compatibility-tests")
+include(":tests:dcp-benchmarks")
 include(":tests:dcp-tests")
 include(":tests:fixtures")
\ No newline at end of file
@@ -31,4 +31,43 @@ dependencies {
     testImplementation(testFixtures(libs.edc.sql.test.fixtures))
     testImplementation(testFixtures(libs.edc.ih.test.fixtures))
     testImplementation(testFixtures(project(":tests:fixtures")))
-}
\ No newline at end of file
+}
+// runs the same load against every pairing of stable and snapshot runtimes, failing when the snapshot p99 regresses
+tasks.register<Test>("performanceTest") {
+    description = "Compares the transfer performance of the snapshot runtimes with the stable ones"
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform()
+    filter {
+        includeTestsMatching("*TransferPerformanceTest")
+    }
+    environment("EDC_TEST_PERFORMANCE", "true")
+    systemProperty("edc.test.performance.maxP99Regression", providers.gradleProperty("maxP99Regression").getOrElse("20"))
+    systemProperty("edc.test.performance.baseline", layout.projectDirectory.file("performance-baseline.json").asFile.absolutePath)
+    providers.gradleProperty("maxBaselineRegression").orNull?.let {
+        systemProperty("edc.test.performance.maxBaselineRegression", it)
+    }
+    systemProperty("edc.test.performance.updateBaseline", providers.gradleProperty("updatePerformanceBaseline").isPresent)
+    systemProperty("edc.test.performance.strictBaseline", providers.gradleProperty("strictPerformanceBaseline").isPresent)
+    outputs.upToDateWhen { false }
+}
+
+// test classes opt in to concurrent execution with @Execution(CONCURRENT), the others keep running on the same thread
+tasks.withType<Test>().configureEach {
+    systemProperty("junit.jupiter.execution.parallel.enabled", "true")
+    systemProperty("junit.jupiter.execution.parallel.mode.default", "same_thread")
+    systemProperty("junit.jupiter.execution.parallel.config.strategy", "fixed")
+    systemProperty("junit.jupiter.execution.parallel.config.fixed.parallelism", providers.gradleProperty("testParallelism").getOrElse("4"))
+    // forks of every test module reserve ports, container and database names in the same directory
+    systemProperty("edc.test.reservations.directory", rootProject.layout.buildDirectory.dir("reservations").get().asFile.absolutePath)
+    systemProperty("edc.test.docker.buildTimes", rootProject.layout.buildDirectory.dir("docker-build-times").get().asFile.absolutePath)
+    // seed of the generated entities, published by the tests that use it so that a run can be repeated
+    providers.gradleProperty("testSeed").orNull?.let {
+        systemProperty("edc.test.seed", it)
+    }
+}
+
+tasks.test {
+    maxParallelForks = providers.gradleProperty("testForks").getOrElse("2").toInt()
+}
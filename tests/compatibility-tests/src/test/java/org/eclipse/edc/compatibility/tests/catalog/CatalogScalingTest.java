@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.catalog;
+
+import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimeExtension;
+import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimes;
+import org.eclipse.edc.compatibility.tests.fixtures.RuntimeStartupCoordinator;
+import org.eclipse.edc.junit.annotations.EndToEndTest;
+import org.eclipse.edc.junit.annotations.Runtime;
+import org.eclipse.edc.junit.extensions.ComponentRuntimeExtension;
+import org.eclipse.edc.junit.extensions.RuntimeExtension;
+import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.eclipse.edc.tests.fixtures.ResourceReservations;
+import org.eclipse.edc.tests.fixtures.Runtimes;
+import org.eclipse.edc.tests.fixtures.extension.cp.ControlPlaneApi;
+import org.eclipse.edc.tests.fixtures.extension.cp.SeedGenerator;
+import org.eclipse.edc.tests.fixtures.metrics.HeapMeter;
+import org.eclipse.edc.tests.fixtures.sql.PostgresqlTemplates;
+import org.eclipse.edc.tests.fixtures.sql.SharedPostgresqlEndToEndExtension;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Requests the full catalog of a provider seeded with an increasing number of assets, page by page, from a consumer
+ * of the other flavour, over every protocol version. Reports the time per page, the total time, the response size and
+ * the peak heap of the consumer, which includes the JSON-LD expansion and compaction it does: the heap of the test JVM
+ * for the in-process consumer, the one served by the container for the stable consumer.
+ * <p>
+ * Enabled with {@code EDC_TEST_CATALOG_SCALING=true}. The catalog sizes can be set with {@code EDC_TEST_CATALOG_SIZES},
+ * a comma-separated list, and the page size with {@code EDC_TEST_CATALOG_PAGE_SIZE}. The assets are generated from the
+ * {@link #SEED_PROPERTY} seed.
+ */
+@EndToEndTest
+@EnabledIfEnvironmentVariable(named = "EDC_TEST_CATALOG_SCALING", matches = "true")
+public class CatalogScalingTest {
+
+    static final String LOCAL = "local";
+    static final String REMOTE = "remote";
+    static final String LOCAL_CP = "local-controlplane";
+    static final String REMOTE_CP = "remote-controlplane";
+    // the database server is shared with the other test classes
+    static final String LOCAL_DB = ResourceReservations.database("catalog_" + LOCAL);
+    static final String REMOTE_DB = ResourceReservations.database("catalog_" + REMOTE);
+    static final int SEED_CONCURRENCY = 32;
+    static final String SEED_PROPERTY = "edc.test.seed";
+    static final long DEFAULT_SEED = 42;
+    static final int REMOTE_CP_HEAP_PORT = ResourceReservations.port();
+    static final List<Map.Entry<String, String>> PROTOCOLS = List.of(
+            Map.entry("dataspace-protocol-http", ""),
+            Map.entry("dataspace-protocol-http:2024/1", "/2024/1")
+    );
+
+    @Order(0)
+    @RegisterExtension
+    static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = SharedPostgresqlEndToEndExtension.instance();
+
+    @Order(1)
+    @RegisterExtension
+    static final PostgresqlTemplates POSTGRESQL_TEMPLATES = new PostgresqlTemplates(POSTGRESQL_EXTENSION);
+
+    // records the schema of the databases once the runtimes have booted, before the tests add data to them
+    @Order(6)
+    @RegisterExtension
+    static final BeforeAllCallback BOOTSTRAPPED_SCHEMAS = POSTGRESQL_TEMPLATES.bootstrapped();
+
+    @Order(1)
+    @RegisterExtension
+    static final BeforeAllCallback CREATE_DATABASES = context -> {
+        POSTGRESQL_TEMPLATES.createDatabase(LOCAL_DB, "snapshot-connector", PostgresqlTemplates::classpathFingerprint);
+        POSTGRESQL_TEMPLATES.createDatabase(REMOTE_DB, "stable-connector", () -> DockerRuntimes.imageId(DockerRuntimes.ControlPlane.IMAGE) + DockerRuntimes.imageId(DockerRuntimes.DataPlane.IMAGE));
+    };
+
+    @Order(5)
+    @RegisterExtension
+    static final DockerRuntimeExtension CONTROL_PLANE_T = DockerRuntimes.ControlPlane.create(REMOTE_CP)
+            .endpoints(DockerRuntimes.ControlPlane.ENDPOINTS.build())
+            .envProvider(() -> DockerRuntimes.ControlPlane.env(REMOTE))
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, REMOTE_DB))
+            .envProvider(() -> DockerRuntimes.ControlPlane.heapEnv(REMOTE_CP_HEAP_PORT))
+            .paramProvider(ControlPlaneApi.class, DockerRuntimes.ControlPlane::controlPlaneApi)
+            .paramProvider(HeapMeter.class, DockerRuntimes.ControlPlane::heapMeter);
+
+    // starts the container in background, it is awaited after the in-process runtime has booted
+    @Order(2)
+    @RegisterExtension
+    static final RuntimeStartupCoordinator STARTUP_COORDINATOR = new RuntimeStartupCoordinator(CONTROL_PLANE_T);
+
+    @Order(3)
+    @RegisterExtension
+    static final RuntimeExtension LOCAL_CONTROL_PLANE = ComponentRuntimeExtension.Builder.newInstance()
+            .name(LOCAL_CP)
+            .modules(Runtimes.ControlPlane.MODULES)
+            .endpoints(Runtimes.ControlPlane.ENDPOINTS.build())
+            .configurationProvider(() -> Runtimes.ControlPlane.config(LOCAL_CP))
+            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(LOCAL_DB))
+            .paramProvider(ControlPlaneApi.class, ControlPlaneApi::forContext)
+            .build();
+
+    @Test
+    void catalogScaling_whenConsumerLocal(@Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote, TestReporter reporter) {
+        catalogScaling("snapshot->stable", local, remote, HeapMeter.local(), reporter);
+    }
+
+    @Test
+    void catalogScaling_whenConsumerRemote(@Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                           @Runtime(REMOTE_CP) HeapMeter remoteHeap, TestReporter reporter) {
+        catalogScaling("stable->snapshot", remote, local, remoteHeap, reporter);
+    }
+
+    private void catalogScaling(String pairing, ControlPlaneApi consumer, ControlPlaneApi provider, HeapMeter consumerHeap, TestReporter reporter) {
+        var sizes = Arrays.stream(Objects.requireNonNullElse(System.getenv("EDC_TEST_CATALOG_SIZES"), "1000,10000,100000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        var pageSize = Integer.parseInt(Objects.requireNonNullElse(System.getenv("EDC_TEST_CATALOG_PAGE_SIZE"), "1000"));
+        var seed = seed(reporter);
+
+        for (var size : sizes) {
+            // the same seed regenerates the assets already seeded for the previous size, which are skipped as existing
+            var seedReport = provider.seed(SeedGenerator.deterministic(seed, size, dataAddress()), SEED_CONCURRENCY);
+            reporter.publishEntry("%s seed %d".formatted(pairing, size), seedReport.toString());
+
+            for (var protocol : PROTOCOLS) {
+                var protocolConsumer = consumer.withProtocol(protocol.getKey(), protocol.getValue());
+                var protocolProvider = provider.withProtocol(protocol.getKey(), protocol.getValue());
+
+                var datasets = 0L;
+                var bytes = 0L;
+                var pages = 0;
+                var slowestPage = Duration.ZERO;
+                consumerHeap.resetPeak();
+                var start = System.nanoTime();
+                while (true) {
+                    var pageStart = System.nanoTime();
+                    var page = protocolConsumer.requestCatalogPage(protocolProvider, (int) datasets, pageSize);
+                    var pageTime = Duration.ofNanos(System.nanoTime() - pageStart);
+                    slowestPage = pageTime.compareTo(slowestPage) > 0 ? pageTime : slowestPage;
+                    pages++;
+                    datasets += page.datasets();
+                    bytes += page.bytes();
+                    if (page.datasets() < pageSize) {
+                        break;
+                    }
+                }
+                var total = Duration.ofNanos(System.nanoTime() - start);
+                var heap = consumerHeap.peak();
+
+                reporter.publishEntry("%s %s %d".formatted(pairing, protocol.getKey(), size),
+                        "%d datasets in %d pages of %d: total %d ms, %d ms/page on average, slowest page %d ms, %d KB, consumer peak heap %d MB".formatted(
+                                datasets, pages, pageSize, total.toMillis(), total.toMillis() / pages, slowestPage.toMillis(), bytes / 1024, heap / (1024 * 1024)));
+
+                assertThat(datasets).isGreaterThanOrEqualTo(size);
+            }
+        }
+    }
+
+    /**
+     * The seed of the generated assets, set with the {@link #SEED_PROPERTY} system property and published, so that a
+     * run can be repeated.
+     */
+    private static long seed(TestReporter reporter) {
+        var seed = Long.getLong(SEED_PROPERTY, DEFAULT_SEED);
+        reporter.publishEntry(SEED_PROPERTY, String.valueOf(seed));
+        return seed;
+    }
+
+    private Map<String, Object> dataAddress() {
+        return Map.of(
+                EDC_NAMESPACE + "type", "HttpData",
+                EDC_NAMESPACE + "baseUrl", "http://localhost"
+        );
+    }
+}
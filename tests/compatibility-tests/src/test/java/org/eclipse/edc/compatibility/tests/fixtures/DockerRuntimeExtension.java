@@ -17,6 +17,9 @@ package org.eclipse.edc.compatibility.tests.fixtures;
 import org.eclipse.edc.junit.annotations.Runtime;
 import org.eclipse.edc.junit.utils.Endpoints;
 import org.eclipse.edc.junit.utils.LazySupplier;
+import org.eclipse.edc.tests.fixtures.ResourceReservations;
+import org.eclipse.edc.tests.fixtures.metrics.BootTimeline;
+import org.eclipse.edc.tests.fixtures.metrics.BootTimelines;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -24,40 +27,66 @@ import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.MountableFile;
 
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import static org.eclipse.edc.util.io.Ports.getFreePort;
-
 public class DockerRuntimeExtension implements BeforeAllCallback, AfterAllCallback, ParameterResolver {
 
+    /**
+     * File the stable runtimes write their boot timeline into, see {@link BootTimelines}.
+     */
+    public static final String BOOT_TIMELINE_FILE = "/app/boot-timeline.json";
+
+    private static final List<String> RUN_SPECIFIC_SUFFIXES = List.of("_PORT", "_URL", "_URI");
+    private static final String DATASOURCE_PREFIX = "EDC_DATASOURCE_";
+
     protected final Map<Class<?>, LazySupplier<?>> paramProviders = new HashMap<>();
     private final List<Supplier<Map<String, String>>> envProviders = new ArrayList<>();
-    private final GenericContainer<?> container;
+    private GenericContainer<?> container;
     private final String name;
     private final Map<String, String> configuration = new HashMap<>();
+    private final List<DockerRuntimeExtension> dependencies = new ArrayList<>();
+    private final Map<String, Supplier<Path>> copies = new HashMap<>();
     private Endpoints endpoints = Endpoints.Builder.newInstance().build();
+    private CompletableFuture<Duration> startup;
+    private Duration startupDuration = Duration.ZERO;
+    private Duration blockedDuration = Duration.ZERO;
+    private Duration timeToReady = Duration.ZERO;
+    private int readinessProbes;
+    private Predicate<DockerRuntimeContext> reusable = ctx -> true;
 
 
     @SuppressWarnings("resource")
     public DockerRuntimeExtension(String image, String name) {
         this.name = name;
         container = new GenericContainer<>(image)
-                .withCreateContainerCmdModifier(cmd -> cmd.withName(name))
-                .withNetworkMode("host")
-                .waitingFor(Wait.forLogMessage(".*Runtime .* ready.*", 1));
+                .withCreateContainerCmdModifier(cmd -> cmd.withName(ResourceReservations.containerName(name)))
+                .withNetworkMode("host");
     }
 
     @Override
     public void afterAll(ExtensionContext context) {
-        container.stop();
+        collectBootTimeline(context);
+        // shared containers are stopped at JVM shutdown, unless they are not reusable anymore
+        if (ReusableContainers.isEnabled()) {
+            ReusableContainers.release(container, isReusable());
+        } else {
+            container.stop();
+        }
     }
 
     public DockerRuntimeExtension envProvider(Supplier<Map<String, String>> envProvider) {
@@ -65,40 +94,224 @@ public class DockerRuntimeExtension implements BeforeAllCallback, AfterAllCallba
         return this;
     }
 
+    /**
+     * Copies a host file or directory into the container when it gets started.
+     *
+     * @param hostPath      the host file or directory, resolved at start
+     * @param containerPath the path in the container
+     * @return this extension
+     */
+    public DockerRuntimeExtension copyToContainer(Supplier<Path> hostPath, String containerPath) {
+        this.copies.put(containerPath, hostPath);
+        return this;
+    }
+
+    /**
+     * Sets the condition for the container to be reused by the next test classes when reuse is enabled, checked after
+     * all the tests of the class, e.g. that the tests have not moved its clock forward. A container that does not
+     * satisfy it is stopped once no class uses it anymore.
+     *
+     * @param condition the condition, tested on the context of the container
+     * @return this extension
+     */
+    public DockerRuntimeExtension reusableWhile(Predicate<DockerRuntimeContext> condition) {
+        this.reusable = condition;
+        return this;
+    }
+
     public DockerRuntimeExtension endpoints(Endpoints endpoints) {
         this.endpoints = endpoints;
         return this;
     }
 
+    /**
+     * Declares a runtime that has to be ready before this one is started, e.g. because this runtime calls its
+     * endpoints at boot. Only honoured when the runtimes are started by a {@link RuntimeStartupCoordinator}.
+     *
+     * @param dependency the runtime this one depends on
+     * @return this extension
+     */
+    public DockerRuntimeExtension dependsOn(DockerRuntimeExtension dependency) {
+        this.dependencies.add(dependency);
+        return this;
+    }
+
     @Override
     public void beforeAll(ExtensionContext context) {
+        if (startup == null) {
+            startupDuration = start();
+            return;
+        }
+        var waitStart = System.nanoTime();
+        try {
+            startupDuration = startup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        } finally {
+            blockedDuration = Duration.ofNanos(System.nanoTime() - waitStart);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Time the container took from start to readiness.
+     */
+    public Duration getStartupDuration() {
+        return startupDuration;
+    }
+
+    /**
+     * Time from the container start to the readiness probes succeeding, part of the {@link #getStartupDuration()}:
+     * the remainder is spent creating and starting the container. Zero for a reused container.
+     */
+    public Duration getTimeToReady() {
+        return timeToReady;
+    }
+
+    /**
+     * Number of readiness probes sent until the runtime was ready.
+     */
+    public int getReadinessProbes() {
+        return readinessProbes;
+    }
+
+    /**
+     * Time the test thread spent waiting for an asynchronously started container to become ready.
+     */
+    public Duration getBlockedDuration() {
+        return blockedDuration;
+    }
+
+    /**
+     * The standard and error output of the container so far, e.g. to check the JVM logs.
+     */
+    public String getLogs() {
+        return container.getLogs();
+    }
+
+    /**
+     * Starts the container in background once all its dependencies are started. Subsequent calls return the same
+     * startup.
+     *
+     * @param executor the executor used to start the containers
+     * @return the future startup, completing with the time the container took to become ready
+     */
+    synchronized CompletableFuture<Duration> startAsync(Executor executor) {
+        if (startup == null) {
+            var dependencyStartups = dependencies.stream()
+                    .map(dependency -> dependency.startAsync(executor))
+                    .toArray(CompletableFuture[]::new);
+            startup = CompletableFuture.allOf(dependencyStartups).thenApplyAsync(v -> start(), executor);
+        }
+        return startup;
+    }
+
+    private Duration start() {
+        var start = System.nanoTime();
         var variables = envProviders.stream().map(Supplier::get)
                 .flatMap(map -> map.entrySet().stream())
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
         var endpointsEnv = new HashMap<String, String>();
         this.endpoints.getEndpoints().forEach((key, endpoint) -> {
-            if (key.equals("default")) {
-                endpointsEnv.put("WEB_HTTP_PORT", String.valueOf(endpoint.get().getPort()));
-                endpointsEnv.put("WEB_HTTP_PATH", endpoint.get().getPath());
-            } else {
-                endpointsEnv.put("WEB_HTTP_" + key.toUpperCase() + "_PORT", String.valueOf(endpoint.get().getPort()));
-                endpointsEnv.put("WEB_HTTP_" + key.toUpperCase() + "_PATH", endpoint.get().getPath());
-            }
+            endpointsEnv.put(endpointEnv(key) + "_PORT", String.valueOf(endpoint.get().getPort()));
+            endpointsEnv.put(endpointEnv(key) + "_PATH", endpoint.get().getPath());
         });
+        variables.putAll(endpointsEnv);
+        variables.put("EDC_BOOT_TIMELINE_FILE", BOOT_TIMELINE_FILE);
         // if the default endpoint is not set, set a random port and /api path
-        if (!endpointsEnv.containsKey("web.http.port")) {
-            endpointsEnv.put("WEB_HTTP_PORT", String.valueOf(getFreePort()));
-            endpointsEnv.put("WEB_HTTP_PATH", "/api");
+        if (!endpointsEnv.containsKey("WEB_HTTP_PORT")) {
+            variables.put("WEB_HTTP_PORT", String.valueOf(ResourceReservations.port()));
+            variables.put("WEB_HTTP_PATH", "/api");
         }
-        variables.putAll(endpointsEnv);
         configuration.putAll(variables);
-        container.withEnv(configuration);
-        container.start();
+        var readiness = readiness(variables);
+        container.waitingFor(readiness);
+        copies.forEach((containerPath, hostPath) -> container.withCopyFileToContainer(MountableFile.forHostPath(hostPath.get()), containerPath));
+        if (ReusableContainers.isEnabled()) {
+            container = ReusableContainers.acquire(container, configuration, stableEnvironment(variables));
+            // a container started by another class keeps its own ports and callbacks, the parameters are bound to them
+            configuration.putAll(container.getEnvMap());
+            endpoints = rebind(endpoints, configuration);
+        } else {
+            container.withEnv(configuration);
+            container.start();
+        }
+        timeToReady = readiness.getTimeToReady();
+        readinessProbes = readiness.getProbes();
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * The part of the environment that identifies the runtime: the values that contain ports, such as the endpoints and
+     * the callback URLs, differ from a test class to another and must not prevent a reuse. The datasource URLs are
+     * kept, so that a class never gets a container wired to the databases of another class.
+     */
+    private static Map<String, String> stableEnvironment(Map<String, String> variables) {
+        return variables.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(DATASOURCE_PREFIX) || RUN_SPECIFIC_SUFFIXES.stream().noneMatch(suffix -> entry.getKey().endsWith(suffix)))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static Endpoints rebind(Endpoints endpoints, Map<String, String> configuration) {
+        var builder = Endpoints.Builder.newInstance();
+        endpoints.getEndpoints().keySet().forEach(key -> {
+            var uri = URI.create("http://localhost:%s%s".formatted(configuration.get(endpointEnv(key) + "_PORT"), configuration.get(endpointEnv(key) + "_PATH")));
+            builder.endpoint(key, () -> uri);
+        });
+        return builder.build();
+    }
+
+    private static String endpointEnv(String key) {
+        return key.equals("default") ? "WEB_HTTP" : "WEB_HTTP_" + key.toUpperCase();
+    }
+
+    private boolean isReusable() {
+        try {
+            return container.isRunning() && reusable.test(getContext());
+        } catch (RuntimeException e) {
+            // the state of the container cannot be checked, it is not handed out anymore
+            return false;
+        }
+    }
+
+    private void collectBootTimeline(ExtensionContext context) {
+        if (!container.isRunning()) {
+            return;
+        }
+        try {
+            BootTimelines.collect(context, container.copyFileFromContainer(BOOT_TIMELINE_FILE, json -> BootTimeline.read(name, json)));
+        } catch (RuntimeException e) {
+            // the image has been built without the boot timeline, or the runtime is not ready yet
+        }
+    }
+
+    private HttpReadinessWaitStrategy readiness(Map<String, String> variables) {
+        var readinessUri = URI.create("http://localhost:%s%s/check/readiness".formatted(variables.get("WEB_HTTP_PORT"), variables.get("WEB_HTTP_PATH")));
+        var ports = variables.entrySet().stream()
+                .filter(e -> e.getKey().startsWith("WEB_HTTP_") && e.getKey().endsWith("_PORT"))
+                .map(e -> Integer.parseInt(e.getValue()))
+                .toList();
+        return new HttpReadinessWaitStrategy(readinessUri, ports);
+    }
+
+    /**
+     * The context the parameters are created from, bound to the container actually started or reused.
+     *
+     * @return the context
+     */
+    public DockerRuntimeContext getContext() {
+        return new DockerRuntimeContext(endpoints, configuration);
     }
 
     public <T> DockerRuntimeExtension paramProvider(Class<T> klass, Function<DockerRuntimeContext, T> paramProvider) {
-        this.paramProviders.put(klass, new LazySupplier<>(() -> paramProvider.apply(new DockerRuntimeContext(endpoints, configuration))));
+        this.paramProviders.put(klass, new LazySupplier<>(() -> paramProvider.apply(getContext())));
         return this;
     }
 
@@ -15,72 +15,239 @@
 package org.eclipse.edc.compatibility.tests.fixtures;
 
 import org.eclipse.edc.junit.utils.Endpoints;
+import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.eclipse.edc.tests.fixtures.clock.ClockControl;
 import org.eclipse.edc.tests.fixtures.extension.cp.ControlPlaneApi;
+import org.eclipse.edc.tests.fixtures.extension.cp.TransferEventWebhook;
+import org.eclipse.edc.tests.fixtures.metrics.HeapMeter;
+import org.testcontainers.DockerClientFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
-import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.eclipse.edc.tests.fixtures.ResourceReservations.port;
 import static org.eclipse.edc.web.spi.configuration.ApiContext.CONTROL;
 import static org.eclipse.edc.web.spi.configuration.ApiContext.MANAGEMENT;
 import static org.eclipse.edc.web.spi.configuration.ApiContext.PROTOCOL;
 
 public interface DockerRuntimes {
 
+    /**
+     * Environment variable that makes the stable images boot without the AOT cache when set to an empty value.
+     */
+    String JAVA_AOT_OPTS = "JAVA_AOT_OPTS";
+
+    /**
+     * System property with the directory the {@code dockerize} tasks record the image build times into.
+     */
+    String BUILD_TIMES_DIRECTORY = "edc.test.docker.buildTimes";
+
+    /**
+     * Environment variable with the port of the control endpoint of the virtual clock of the stable images.
+     */
+    String CLOCK_PORT_ENV = "TESTING_EDC_CLOCK_PORT";
+
+    static Map<String, String> postgresEnv(PostgresqlEndToEndExtension postgresql, String databaseName) {
+        return postgresql.configFor(databaseName).getEntries().entrySet().stream()
+                .collect(Collectors.toMap(e -> toEnv(e.getKey()), Map.Entry::getValue));
+    }
+
+    static String toEnv(String cfg) {
+        return cfg.toUpperCase().replace('.', '_');
+    }
+
+    /**
+     * Environment that exposes the control endpoint of the virtual clock baked into the stable images, see
+     * {@link #clockControl(DockerRuntimeContext)}.
+     */
+    static Map<String, String> clockEnv(int port) {
+        return Map.of(CLOCK_PORT_ENV, String.valueOf(port));
+    }
+
+    /**
+     * Controls the virtual clock of a container through the port it was started with, which is the one of the class
+     * that started it when the container is reused.
+     */
+    static ClockControl clockControl(DockerRuntimeContext ctx) {
+        return ClockControl.remote(Integer.parseInt(ctx.getConfig().get(CLOCK_PORT_ENV)));
+    }
+
+    /**
+     * Whether the virtual clock of a container still runs on the real time, i.e. the container can be reused by a class
+     * whose in-process runtimes start on the real time, see {@link DockerRuntimeExtension#reusableWhile}.
+     */
+    static boolean clockNotAdvanced(DockerRuntimeContext ctx) {
+        return clockControl(ctx).advance(Duration.ZERO).isZero();
+    }
+
+    /**
+     * Returns the id of the local image, which changes whenever the image is rebuilt, unlike the tag.
+     */
+    static String imageId(String image) {
+        return DockerClientFactory.instance().client().inspectImageCmd(image).exec().getId();
+    }
+
+    /**
+     * Returns the size of the local image, all its layers included.
+     */
+    static long imageSize(String image) {
+        return DockerClientFactory.instance().client().inspectImageCmd(image).exec().getSize();
+    }
+
+    /**
+     * Returns how long the last build of the image took, as recorded by the {@code dockerize} tasks in the
+     * {@link #BUILD_TIMES_DIRECTORY} directory.
+     *
+     * @return the build time, or empty if the image has not been built by Gradle
+     */
+    static Optional<Duration> buildTime(String image) {
+        var file = Path.of(System.getProperty(BUILD_TIMES_DIRECTORY, "../../build/docker-build-times")).resolve(image.replace(':', '_') + ".txt");
+        try {
+            return Files.exists(file) ? Optional.of(Duration.ofMillis(Long.parseLong(Files.readString(file).trim()))) : Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     interface ControlPlane {
         String IMAGE = "controlplane-stable:latest";
+        /**
+         * Image built by {@code dockerizeLayered}: the same runtime on a jlink-trimmed JRE, in separate layers.
+         */
+        String LAYERED_IMAGE = "controlplane-stable:layered";
 
         Endpoints.Builder ENDPOINTS = Endpoints.Builder.newInstance()
-                .endpoint(MANAGEMENT, () -> URI.create("http://localhost:" + getFreePort() + "/management"))
-                .endpoint(CONTROL, () -> URI.create("http://localhost:" + getFreePort() + "/control"))
-                .endpoint(PROTOCOL, () -> URI.create("http://localhost:" + getFreePort() + "/protocol"));
+                .endpoint(MANAGEMENT, () -> URI.create("http://localhost:" + port() + "/management"))
+                .endpoint(CONTROL, () -> URI.create("http://localhost:" + port() + "/control"))
+                .endpoint(PROTOCOL, () -> URI.create("http://localhost:" + port() + "/protocol"));
+
+        /**
+         * Environment variable with the port the heap usage of the control plane is served on.
+         */
+        String HEAP_PORT_ENV = "TESTING_EDC_HEAP_PORT";
 
         static DockerRuntimeExtension create(String name) {
-            return new DockerRuntimeExtension(IMAGE, name);
+            return create(name, IMAGE);
+        }
+
+        static DockerRuntimeExtension create(String name, String image) {
+            return new DockerRuntimeExtension(image, name);
         }
 
         static Map<String, String> env(String participantId) {
             return Map.of("EDC_PARTICIPANT_ID", participantId);
         }
 
+        /**
+         * Environment that serves the peak heap usage of the control plane on the given port, see
+         * {@link #heapMeter(DockerRuntimeContext)}.
+         */
+        static Map<String, String> heapEnv(int port) {
+            return Map.of(HEAP_PORT_ENV, String.valueOf(port));
+        }
+
+        /**
+         * Measures the heap of the control plane through the heap usage endpoint it was started with.
+         */
+        static HeapMeter heapMeter(DockerRuntimeContext ctx) {
+            return HeapMeter.remote(URI.create("http://localhost:%s/heap".formatted(ctx.getConfig().get(HEAP_PORT_ENV))));
+        }
+
         static Map<String, String> dataPlaneSelectorFor(Endpoints endpoints) {
             return Map.of("EDC_DPF_SELECTOR_URL", endpoints.getEndpoint("control").get() + "/v1/dataplanes");
         }
 
         static ControlPlaneApi controlPlaneApi(DockerRuntimeContext ctx) {
+            return controlPlaneApiBuilder(ctx).build();
+        }
+
+        /**
+         * Creates a {@link ControlPlaneApi} that waits for transfer states through the events received by the webhook.
+         * The webhook {@link TransferEventWebhook#env()} must be provided to the runtime. A reused container calls the
+         * webhook it has been started with, and falls back to polling when that one is not running in this JVM.
+         */
+        static ControlPlaneApi controlPlaneApi(DockerRuntimeContext ctx, TransferEventWebhook webhook) {
+            return controlPlaneApiBuilder(ctx).transferEvents(webhook.eventsFor(ctx.getConfig()).orElse(null)).build();
+        }
+
+        private static ControlPlaneApi.Builder controlPlaneApiBuilder(DockerRuntimeContext ctx) {
             var id = ctx.getConfig().get("EDC_PARTICIPANT_ID");
             return ControlPlaneApi.Builder.newInstance()
                     .id(id)
                     .name("name")
                     .managementUrl(ctx.getEndpoint(MANAGEMENT))
-                    .protocolUrl(ctx.getEndpoint(PROTOCOL))
-                    .build();
+                    .protocolUrl(ctx.getEndpoint(PROTOCOL));
         }
     }
 
     interface DataPlane {
         String IMAGE = "dataplane-stable:latest";
+        /**
+         * Image built by {@code dockerizeLayered}: the same runtime on a jlink-trimmed JRE, in separate layers.
+         */
+        String LAYERED_IMAGE = "dataplane-stable:layered";
 
         Endpoints.Builder ENDPOINTS = Endpoints.Builder.newInstance()
-                .endpoint(CONTROL, () -> URI.create("http://localhost:" + getFreePort() + "/control"));
+                .endpoint(CONTROL, () -> URI.create("http://localhost:" + port() + "/control"));
 
         String PRIVATE_KEY = getResourceFileContentAsString("certs/key.pem");
         String PUBLIC_KEY = getResourceFileContentAsString("certs/cert.pem");
 
+        /**
+         * Directory of the container the vault secrets are read from, one file per secret.
+         */
+        String SECRETS_DIRECTORY = "/app/secrets";
+
         static DockerRuntimeExtension create(String name) {
-            return new DockerRuntimeExtension(IMAGE, name);
+            return create(name, IMAGE);
+        }
+
+        static DockerRuntimeExtension create(String name, String image) {
+            return new DockerRuntimeExtension(image, name)
+                    .copyToContainer(DataPlane::secrets, SECRETS_DIRECTORY);
         }
 
         static Map<String, String> env() {
             return Map.of(
                     "EDC_TRANSFER_PROXY_TOKEN_SIGNER_PRIVATEKEY_ALIAS", "private-key",
                     "EDC_TRANSFER_PROXY_TOKEN_VERIFIER_PUBLICKEY_ALIAS", "public-key",
-                    "TESTING_EDC_VAULTS_1_KEY", "private-key",
-                    "TESTING_EDC_VAULTS_1_VALUE", PRIVATE_KEY,
-                    "TESTING_EDC_VAULTS_2_KEY", "public-key",
-                    "TESTING_EDC_VAULTS_2_VALUE", PUBLIC_KEY
+                    "TESTING_EDC_VAULTS_DIRECTORY", SECRETS_DIRECTORY,
+                    "EDC_PROXY_PORT", String.valueOf(port())
             );
         }
+
+        /**
+         * Measures the heap of the data plane through the heap usage endpoint served next to its proxy.
+         */
+        static HeapMeter heapMeter(DockerRuntimeContext ctx) {
+            return HeapMeter.remote(URI.create("http://localhost:%s/proxy/heap".formatted(ctx.getConfig().get("EDC_PROXY_PORT"))));
+        }
+
+        /**
+         * Writes the secrets of the data plane into a temporary directory, to be copied to {@link #SECRETS_DIRECTORY}.
+         *
+         * @return the directory
+         */
+        static Path secrets() {
+            try {
+                var directory = Files.createTempDirectory("dataplane-secrets");
+                directory.toFile().deleteOnExit();
+                for (var secret : Map.of("private-key", PRIVATE_KEY, "public-key", PUBLIC_KEY).entrySet()) {
+                    var file = Files.writeString(directory.resolve(secret.getKey()), secret.getValue());
+                    file.toFile().deleteOnExit();
+                }
+                return directory;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 }
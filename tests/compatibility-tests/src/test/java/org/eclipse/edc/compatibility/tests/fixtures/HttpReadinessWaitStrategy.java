@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.fixtures;
+
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Waits for a runtime to be ready by probing its readiness endpoint, and then checking that every configured port
+ * accepts connections, with an exponential backoff between the probes. Unlike scanning the log for the ready message,
+ * this tells that the management, protocol and control endpoints are actually served.
+ * <p>
+ * The containers run in host network mode, so the ports are probed on localhost.
+ */
+class HttpReadinessWaitStrategy extends AbstractWaitStrategy {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(5);
+    private static final Duration MAX_BACKOFF = Duration.ofMillis(250);
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(1);
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder().connectTimeout(PROBE_TIMEOUT).build();
+
+    private final URI readinessUri;
+    private final List<Integer> ports;
+    private Duration timeToReady = Duration.ZERO;
+    private int probes;
+
+    /**
+     * Creates the strategy.
+     *
+     * @param readinessUri the readiness endpoint, which answers 200 when the runtime is ready
+     * @param ports        the ports that have to accept connections
+     */
+    HttpReadinessWaitStrategy(URI readinessUri, List<Integer> ports) {
+        this.readinessUri = readinessUri;
+        this.ports = ports;
+    }
+
+    /**
+     * Time from the container start to the first successful probe.
+     */
+    Duration getTimeToReady() {
+        return timeToReady;
+    }
+
+    /**
+     * Number of probes sent until the runtime was ready.
+     */
+    int getProbes() {
+        return probes;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        var start = System.nanoTime();
+        var deadline = start + startupTimeout.toNanos();
+        var backoff = INITIAL_BACKOFF;
+        probes = 0;
+        while (true) {
+            probes++;
+            if (isReady()) {
+                timeToReady = Duration.ofNanos(System.nanoTime() - start);
+                return;
+            }
+            if (!waitStrategyTarget.isRunning()) {
+                throw new ContainerLaunchException("Container exited before %s answered".formatted(readinessUri));
+            }
+            if (System.nanoTime() > deadline) {
+                throw new ContainerLaunchException("Timed out after %d probes waiting for %s and ports %s".formatted(probes, readinessUri, ports));
+            }
+            try {
+                Thread.sleep(backoff.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ContainerLaunchException("Interrupted while waiting for " + readinessUri, e);
+            }
+            backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) < 0 ? backoff.multipliedBy(2) : MAX_BACKOFF;
+        }
+    }
+
+    private boolean isReady() {
+        var request = HttpRequest.newBuilder(readinessUri).timeout(PROBE_TIMEOUT).GET().build();
+        try {
+            if (HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return ports.stream().allMatch(this::acceptsConnections);
+    }
+
+    private boolean acceptsConnections(int port) {
+        try (var socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", port), (int) PROBE_TIMEOUT.toMillis());
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.fixtures;
+
+import org.testcontainers.containers.GenericContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares the Docker runtimes across the test classes of a JVM, i.e. of a Gradle test fork, when reuse is enabled
+ * through the {@link #REUSE_ENV} environment variable. A running container is reused whenever the image id and the
+ * stable part of the environment match, so a class that needs isolated data should rely on unique participant and
+ * asset ids rather than on a fresh runtime.
+ * <p>
+ * Ports, URLs and URIs are left out of the key, since they are reserved anew by every class, except for the
+ * datasource URLs: a class only reuses a container that works on its own databases, and talks to it through the ports
+ * and the callbacks the container has been started with. The database server therefore has to outlive the class that
+ * started the container, see {@link org.eclipse.edc.tests.fixtures.sql.SharedPostgresqlEndToEndExtension}.
+ * <p>
+ * A class that leaves a container in a state the others must not see, e.g. with its clock advanced, releases it as not
+ * reusable: the container is not handed out anymore, and is stopped once the classes using it have released it.
+ * <p>
+ * Containers are not shared across forks, whose container names and ports differ, and are stopped at JVM shutdown.
+ */
+public final class ReusableContainers {
+
+    public static final String REUSE_ENV = "EDC_TEST_DOCKER_REUSE";
+
+    private static final Map<String, CompletableFuture<GenericContainer<?>>> CONTAINERS = new ConcurrentHashMap<>();
+    // the classes using every container, and the containers not to be handed out anymore, guarded by USERS
+    private static final Map<GenericContainer<?>, Integer> USERS = new HashMap<>();
+    private static final Set<GenericContainer<?>> DISCARDED = new HashSet<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ReusableContainers::stopAll, "reusable-containers-cleanup"));
+    }
+
+    private ReusableContainers() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getenv(REUSE_ENV));
+    }
+
+    /**
+     * Returns the running container matching image and environment, starting the given one if there is none. The
+     * container has to be released with {@link #release(GenericContainer, boolean)} once the class is done with it.
+     *
+     * @param container      the container to be started if no matching one is running
+     * @param environment    the container environment
+     * @param keyEnvironment the part of the environment that identifies the runtime, without run-specific values
+     * @return the running container
+     */
+    public static GenericContainer<?> acquire(GenericContainer<?> container, Map<String, String> environment, Map<String, String> keyEnvironment) {
+        var key = key(container.getDockerImageName(), keyEnvironment);
+        while (true) {
+            var startup = new CompletableFuture<GenericContainer<?>>();
+            var existing = CONTAINERS.putIfAbsent(key, startup);
+            if (existing == null) {
+                try {
+                    container.withEnv(environment).start();
+                    use(container);
+                    startup.complete(container);
+                    return container;
+                } catch (RuntimeException e) {
+                    CONTAINERS.remove(key, startup);
+                    startup.completeExceptionally(e);
+                    throw e;
+                }
+            }
+            var running = existing.join();
+            // a container discarded in the meantime has been removed, the next round starts a new one
+            if (use(running)) {
+                return running;
+            }
+        }
+    }
+
+    /**
+     * Releases a container acquired by a class. A container that is not reusable is not handed out anymore, and is
+     * stopped as soon as no class uses it.
+     *
+     * @param container the container
+     * @param reusable  whether other classes may still get the container
+     */
+    public static void release(GenericContainer<?> container, boolean reusable) {
+        synchronized (USERS) {
+            if (!USERS.containsKey(container)) {
+                return;
+            }
+            if (!reusable && DISCARDED.add(container)) {
+                CONTAINERS.values().removeIf(startup -> startup.getNow(null) == container);
+            }
+            var users = USERS.merge(container, -1, Integer::sum);
+            if (users > 0 || !DISCARDED.contains(container)) {
+                return;
+            }
+            USERS.remove(container);
+        }
+        container.stop();
+    }
+
+    private static boolean use(GenericContainer<?> container) {
+        synchronized (USERS) {
+            if (DISCARDED.contains(container)) {
+                return false;
+            }
+            USERS.merge(container, 1, Integer::sum);
+            return true;
+        }
+    }
+
+    private static void stopAll() {
+        CONTAINERS.values().stream()
+                .filter(startup -> startup.isDone() && !startup.isCompletedExceptionally())
+                .map(CompletableFuture::join)
+                .forEach(GenericContainer::stop);
+        // the discarded containers still used by a class
+        synchronized (USERS) {
+            USERS.keySet().forEach(GenericContainer::stop);
+        }
+    }
+
+    private static String key(String image, Map<String, String> environment) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(DockerRuntimes.imageId(image).getBytes(StandardCharsets.UTF_8));
+            new TreeMap<>(environment).forEach((name, value) -> {
+                digest.update(name.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '=');
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            });
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
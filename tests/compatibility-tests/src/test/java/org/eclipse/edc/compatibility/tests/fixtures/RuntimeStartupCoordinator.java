@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.fixtures;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Starts the given {@link DockerRuntimeExtension}s in background, honouring their declared dependencies, so that the
+ * containers boot while the in-process runtimes registered after this extension are booting on the test thread. Every
+ * {@link DockerRuntimeExtension} then waits for its own container in its {@code beforeAll}.
+ * <p>
+ * Must be registered after the extensions the containers need at startup (e.g. database creation) and before the
+ * runtimes it coordinates. Before the first test it publishes, as JUnit report entries, the wall-clock time saved
+ * compared to a serial startup.
+ */
+public class RuntimeStartupCoordinator implements BeforeAllCallback, BeforeEachCallback {
+
+    private final List<DockerRuntimeExtension> runtimes;
+    private final AtomicBoolean reported = new AtomicBoolean();
+    private long startNanos;
+
+    public RuntimeStartupCoordinator(DockerRuntimeExtension... runtimes) {
+        this.runtimes = List.of(runtimes);
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        startNanos = System.nanoTime();
+        // dependent containers are submitted when their dependencies are ready, so the pool cannot be shut down here
+        var executor = Executors.newCachedThreadPool(runnable -> {
+            var thread = new Thread(runnable, "runtime-startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        runtimes.forEach(runtime -> runtime.startAsync(executor));
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (reported.compareAndSet(false, true)) {
+            var wallClock = Duration.ofNanos(System.nanoTime() - startNanos);
+            var blocked = runtimes.stream().map(DockerRuntimeExtension::getBlockedDuration).reduce(Duration.ZERO, Duration::plus);
+            var containers = runtimes.stream().map(DockerRuntimeExtension::getStartupDuration).reduce(Duration.ZERO, Duration::plus);
+            // time on the test thread not spent waiting for containers went into the in-process runtimes
+            var inProcess = wallClock.minus(blocked);
+            var serial = inProcess.plus(containers);
+
+            runtimes.forEach(runtime -> context.publishReportEntry("startup-" + runtime.getName(), "ready in %d ms, %d ms of which from container start to readiness (%d probes)"
+                    .formatted(runtime.getStartupDuration().toMillis(), runtime.getTimeToReady().toMillis(), runtime.getReadinessProbes())));
+            context.publishReportEntry("startup", "took %d ms, %d ms serially: %d ms saved"
+                    .formatted(wallClock.toMillis(), serial.toMillis(), serial.minus(wallClock).toMillis()));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.startup;
+
+import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimeExtension;
+import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimes;
+import org.eclipse.edc.junit.annotations.EndToEndTest;
+import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.eclipse.edc.tests.fixtures.ResourceReservations;
+import org.eclipse.edc.tests.fixtures.sql.SharedPostgresqlEndToEndExtension;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the time-to-ready of the stable control plane image with and without the AOT cache recorded at build time.
+ * The runtimes are started one after the other, so they do not compete for CPU. The runtime with the cache is started
+ * with {@code -XX:AOTMode=on}, so that the JVM refuses to boot when the cache cannot be used, and with the cache
+ * logging, which shows the cache being mapped.
+ * <p>
+ * Enabled with {@code EDC_TEST_AOT_CACHE=true}, the images have to be built with the cache beforehand.
+ */
+@EndToEndTest
+@EnabledIfEnvironmentVariable(named = "EDC_TEST_AOT_CACHE", matches = "true")
+public class AotCacheStartupTest {
+
+    private static final String WITHOUT_CACHE = "without_aot_cache";
+    private static final String WITH_CACHE = "with_aot_cache";
+    private static final String AOT_CACHE = "app.aot";
+    // the JDK 24 of the images logs the cache under the cds tag
+    private static final Pattern AOT_CACHE_LOADED = Pattern.compile("\\[cds[^\\]]*\\].*" + Pattern.quote(AOT_CACHE));
+
+    @Order(0)
+    @RegisterExtension
+    static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = SharedPostgresqlEndToEndExtension.instance();
+
+    @Order(1)
+    @RegisterExtension
+    static final BeforeAllCallback CREATE_DATABASES = context -> {
+        POSTGRESQL_EXTENSION.createDatabase(ResourceReservations.database(WITHOUT_CACHE));
+        POSTGRESQL_EXTENSION.createDatabase(ResourceReservations.database(WITH_CACHE));
+    };
+
+    @Order(2)
+    @RegisterExtension
+    static final DockerRuntimeExtension CONTROL_PLANE_WITHOUT_CACHE = DockerRuntimes.ControlPlane.create("controlplane-without-aot-cache")
+            .endpoints(DockerRuntimes.ControlPlane.ENDPOINTS.build())
+            .envProvider(() -> DockerRuntimes.ControlPlane.env(WITHOUT_CACHE))
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, ResourceReservations.database(WITHOUT_CACHE)))
+            .envProvider(() -> Map.of(DockerRuntimes.JAVA_AOT_OPTS, ""));
+
+    @Order(3)
+    @RegisterExtension
+    static final DockerRuntimeExtension CONTROL_PLANE_WITH_CACHE = DockerRuntimes.ControlPlane.create("controlplane-with-aot-cache")
+            .endpoints(DockerRuntimes.ControlPlane.ENDPOINTS.build())
+            .envProvider(() -> DockerRuntimes.ControlPlane.env(WITH_CACHE))
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, ResourceReservations.database(WITH_CACHE)))
+            .envProvider(() -> Map.of(DockerRuntimes.JAVA_AOT_OPTS, "-XX:AOTCache=%s -XX:AOTMode=on -Xlog:cds=info".formatted(AOT_CACHE)));
+
+    @Test
+    void controlPlane_timeToReady(TestReporter reporter) {
+        var withoutCache = CONTROL_PLANE_WITHOUT_CACHE.getStartupDuration();
+        var withCache = CONTROL_PLANE_WITH_CACHE.getStartupDuration();
+
+        reporter.publishEntry("without-aot-cache", "ready in %d ms (%d ms from container start)"
+                .formatted(withoutCache.toMillis(), CONTROL_PLANE_WITHOUT_CACHE.getTimeToReady().toMillis()));
+        reporter.publishEntry("with-aot-cache", "ready in %d ms (%d ms from container start)"
+                .formatted(withCache.toMillis(), CONTROL_PLANE_WITH_CACHE.getTimeToReady().toMillis()));
+        reporter.publishEntry("aot-cache-delta", "%+d ms".formatted(withCache.minus(withoutCache).toMillis()));
+
+        assertThat(withoutCache).isPositive();
+        assertThat(withCache).isPositive();
+        assertThat(CONTROL_PLANE_WITH_CACHE.getLogs().lines())
+                .as("the JVM logs the AOT cache %s as loaded", AOT_CACHE)
+                .anyMatch(line -> AOT_CACHE_LOADED.matcher(line).find());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.startup;
+
+import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimeExtension;
+import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimes;
+import org.eclipse.edc.junit.annotations.EndToEndTest;
+import org.eclipse.edc.junit.utils.Endpoints;
+import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.eclipse.edc.tests.fixtures.ResourceReservations;
+import org.eclipse.edc.tests.fixtures.sql.SharedPostgresqlEndToEndExtension;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the stable runtime images built by {@code dockerize} with the layered ones built by
+ * {@code dockerizeLayered}: image size, build time and time-to-ready. The runtimes are started one after the other,
+ * so they do not compete for CPU. Both image variants have to be built beforehand.
+ */
+@EndToEndTest
+@EnabledIfEnvironmentVariable(named = "EDC_TEST_LAYERED_IMAGES", matches = "true")
+public class LayeredImageStartupTest {
+
+    private static final String DEFAULT = "default_image";
+    private static final String LAYERED = "layered_image";
+    private static final Endpoints DEFAULT_CP_ENDPOINTS = DockerRuntimes.ControlPlane.ENDPOINTS.build();
+    private static final Endpoints LAYERED_CP_ENDPOINTS = DockerRuntimes.ControlPlane.ENDPOINTS.build();
+
+    @Order(0)
+    @RegisterExtension
+    static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = SharedPostgresqlEndToEndExtension.instance();
+
+    @Order(1)
+    @RegisterExtension
+    static final BeforeAllCallback CREATE_DATABASES = context -> {
+        POSTGRESQL_EXTENSION.createDatabase(ResourceReservations.database(DEFAULT));
+        POSTGRESQL_EXTENSION.createDatabase(ResourceReservations.database(LAYERED));
+    };
+
+    @Order(2)
+    @RegisterExtension
+    static final DockerRuntimeExtension DEFAULT_CONTROL_PLANE = DockerRuntimes.ControlPlane.create("controlplane-default-image")
+            .endpoints(DEFAULT_CP_ENDPOINTS)
+            .envProvider(() -> DockerRuntimes.ControlPlane.env(DEFAULT))
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, ResourceReservations.database(DEFAULT)));
+
+    @Order(3)
+    @RegisterExtension
+    static final DockerRuntimeExtension DEFAULT_DATA_PLANE = DockerRuntimes.DataPlane.create("dataplane-default-image")
+            .endpoints(DockerRuntimes.DataPlane.ENDPOINTS.build())
+            .envProvider(() -> DockerRuntimes.ControlPlane.dataPlaneSelectorFor(DEFAULT_CP_ENDPOINTS))
+            .envProvider(DockerRuntimes.DataPlane::env)
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, ResourceReservations.database(DEFAULT)));
+
+    @Order(4)
+    @RegisterExtension
+    static final DockerRuntimeExtension LAYERED_CONTROL_PLANE = DockerRuntimes.ControlPlane.create("controlplane-layered-image", DockerRuntimes.ControlPlane.LAYERED_IMAGE)
+            .endpoints(LAYERED_CP_ENDPOINTS)
+            .envProvider(() -> DockerRuntimes.ControlPlane.env(LAYERED))
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, ResourceReservations.database(LAYERED)));
+
+    @Order(5)
+    @RegisterExtension
+    static final DockerRuntimeExtension LAYERED_DATA_PLANE = DockerRuntimes.DataPlane.create("dataplane-layered-image", DockerRuntimes.DataPlane.LAYERED_IMAGE)
+            .endpoints(DockerRuntimes.DataPlane.ENDPOINTS.build())
+            .envProvider(() -> DockerRuntimes.ControlPlane.dataPlaneSelectorFor(LAYERED_CP_ENDPOINTS))
+            .envProvider(DockerRuntimes.DataPlane::env)
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, ResourceReservations.database(LAYERED)));
+
+    @Test
+    void controlPlane_layeredImage(TestReporter reporter) {
+        report(DockerRuntimes.ControlPlane.IMAGE, DEFAULT_CONTROL_PLANE, reporter);
+        report(DockerRuntimes.ControlPlane.LAYERED_IMAGE, LAYERED_CONTROL_PLANE, reporter);
+
+        assertThat(DockerRuntimes.imageSize(DockerRuntimes.ControlPlane.LAYERED_IMAGE)).isPositive();
+        assertThat(LAYERED_CONTROL_PLANE.getStartupDuration()).isPositive();
+    }
+
+    @Test
+    void dataPlane_layeredImage(TestReporter reporter) {
+        report(DockerRuntimes.DataPlane.IMAGE, DEFAULT_DATA_PLANE, reporter);
+        report(DockerRuntimes.DataPlane.LAYERED_IMAGE, LAYERED_DATA_PLANE, reporter);
+
+        assertThat(DockerRuntimes.imageSize(DockerRuntimes.DataPlane.LAYERED_IMAGE)).isPositive();
+        assertThat(LAYERED_DATA_PLANE.getStartupDuration()).isPositive();
+    }
+
+    private void report(String image, DockerRuntimeExtension runtime, TestReporter reporter) {
+        var buildTime = DockerRuntimes.buildTime(image).map(Duration::toMillis).map(millis -> millis + " ms").orElse("n/a");
+        reporter.publishEntry(image, "%.1f MB, built in %s, ready in %d ms (%d ms from container start)".formatted(
+                DockerRuntimes.imageSize(image) / (1024.0 * 1024.0), buildTime,
+                runtime.getStartupDuration().toMillis(), runtime.getTimeToReady().toMillis()));
+    }
+}
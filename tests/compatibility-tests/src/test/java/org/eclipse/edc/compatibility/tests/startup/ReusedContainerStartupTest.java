@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.startup;
+
+import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimeExtension;
+import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimes;
+import org.eclipse.edc.compatibility.tests.fixtures.ReusableContainers;
+import org.eclipse.edc.junit.annotations.EndToEndTest;
+import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.eclipse.edc.tests.fixtures.ResourceReservations;
+import org.eclipse.edc.tests.fixtures.sql.SharedPostgresqlEndToEndExtension;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.web.spi.configuration.ApiContext.MANAGEMENT;
+
+/**
+ * Checks that a control plane is reused by a second test class, although every class reserves its own ports, and that
+ * it is not reused by a class that works on another database. The extensions are configured the way test classes would
+ * configure them, each with its own endpoints.
+ */
+@EndToEndTest
+@EnabledIfEnvironmentVariable(named = ReusableContainers.REUSE_ENV, matches = "true")
+public class ReusedContainerStartupTest {
+
+    private static final String PARTICIPANT = "reused";
+    private static final String REUSED_DB = ResourceReservations.database("reused");
+    private static final String OTHER_DB = ResourceReservations.database("reused_other");
+
+    @Order(0)
+    @RegisterExtension
+    static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = SharedPostgresqlEndToEndExtension.instance();
+
+    @Order(1)
+    @RegisterExtension
+    static final BeforeAllCallback CREATE_DATABASES = context -> {
+        POSTGRESQL_EXTENSION.createDatabase(REUSED_DB);
+        POSTGRESQL_EXTENSION.createDatabase(OTHER_DB);
+    };
+
+    @Order(2)
+    @RegisterExtension
+    static final DockerRuntimeExtension FIRST_CLASS_CONTROL_PLANE = DockerRuntimes.ControlPlane.create("controlplane-reused")
+            .endpoints(DockerRuntimes.ControlPlane.ENDPOINTS.build())
+            .envProvider(() -> DockerRuntimes.ControlPlane.env(PARTICIPANT))
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, REUSED_DB));
+
+    @Order(3)
+    @RegisterExtension
+    static final DockerRuntimeExtension SECOND_CLASS_CONTROL_PLANE = DockerRuntimes.ControlPlane.create("controlplane-reused")
+            .endpoints(DockerRuntimes.ControlPlane.ENDPOINTS.build())
+            .envProvider(() -> DockerRuntimes.ControlPlane.env(PARTICIPANT))
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, REUSED_DB));
+
+    @Order(4)
+    @RegisterExtension
+    static final DockerRuntimeExtension OTHER_DATABASE_CONTROL_PLANE = DockerRuntimes.ControlPlane.create("controlplane-reused-other")
+            .endpoints(DockerRuntimes.ControlPlane.ENDPOINTS.build())
+            .envProvider(() -> DockerRuntimes.ControlPlane.env(PARTICIPANT))
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, OTHER_DB));
+
+    @Test
+    void secondClass_reusesContainer() {
+        assertThat(SECOND_CLASS_CONTROL_PLANE.getTimeToReady()).isEqualTo(Duration.ZERO);
+        assertThat(SECOND_CLASS_CONTROL_PLANE.getReadinessProbes()).isZero();
+
+        // the parameters of the second class are bound to the container started by the first one
+        var first = FIRST_CLASS_CONTROL_PLANE.getContext();
+        var second = SECOND_CLASS_CONTROL_PLANE.getContext();
+        assertThat(second.getEndpoint(MANAGEMENT).get()).isEqualTo(first.getEndpoint(MANAGEMENT).get());
+        assertThat(second.getConfig()).containsAllEntriesOf(first.getConfig());
+    }
+
+    @Test
+    void otherDatabase_startsOwnContainer() {
+        assertThat(OTHER_DATABASE_CONTROL_PLANE.getReadinessProbes()).isPositive();
+
+        var first = FIRST_CLASS_CONTROL_PLANE.getContext();
+        var other = OTHER_DATABASE_CONTROL_PLANE.getContext();
+        assertThat(other.getEndpoint(MANAGEMENT).get()).isNotEqualTo(first.getEndpoint(MANAGEMENT).get());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.transfer;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.tests.fixtures.extension.cp.AsyncControlPlaneApi;
+import org.eclipse.edc.tests.fixtures.extension.cp.ControlPlaneApi;
+import org.eclipse.edc.tests.fixtures.metrics.LoadRun;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.connector.controlplane.test.system.utils.PolicyFixtures.noConstraintPolicy;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * The HTTP pull transfer scenario shared by the functional, load and performance tests.
+ */
+final class HttpPullScenario {
+
+    private HttpPullScenario() {
+    }
+
+    static Map<String, Object> httpSourceDataAddress() {
+        return Map.of(
+                EDC_NAMESPACE + "name", "transfer-test",
+                EDC_NAMESPACE + "baseUrl", "http://localhost",
+                EDC_NAMESPACE + "type", "HttpData",
+                EDC_NAMESPACE + "proxyQueryParams", "true"
+        );
+    }
+
+    static void createResourcesOnProvider(ControlPlaneApi provider, String assetId, JsonObject contractPolicy, Map<String, Object> dataAddressProperties) {
+        provider.createAsset(assetId, Map.of("description", "description"), dataAddressProperties);
+        var contractPolicyId = provider.createPolicyDefinition(contractPolicy);
+        var noConstraintPolicyId = provider.createPolicyDefinition(noConstraintPolicy());
+
+        provider.createContractDefinition(assetId, UUID.randomUUID().toString(), noConstraintPolicyId, contractPolicyId);
+    }
+
+    /**
+     * A negotiate-transfer-pull cycle on a new asset, timing negotiation, transfer start, EDR availability and first
+     * byte. The negotiation phase includes the catalog request and the transfer request, as they are all issued by
+     * {@code requestAssetFrom}.
+     *
+     * @param consumer the consumer control plane
+     * @param provider the provider control plane
+     * @return the cycle
+     */
+    static LoadRun.Cycle cycle(ControlPlaneApi consumer, ControlPlaneApi provider) {
+        return phases -> {
+            var assetId = UUID.randomUUID().toString();
+            createResourcesOnProvider(provider, assetId, noConstraintPolicy(), httpSourceDataAddress());
+
+            var transferProcessId = phases.time("negotiation", () -> consumer.requestAssetFrom(assetId, provider)
+                    .withTransferType("HttpData-PULL")
+                    .execute());
+            phases.time("transferStart", () -> consumer.awaitTransferToBeInState(transferProcessId, STARTED));
+            var edr = phases.time("edrAvailable", () -> await().atMost(consumer.getTimeout())
+                    .until(() -> consumer.getEdr(transferProcessId), Objects::nonNull));
+            phases.record("firstByte", consumer.pullDataFirstByte(edr, Map.of("message", assetId)));
+        };
+    }
+
+    /**
+     * The non-blocking counterpart of {@link #cycle}, for {@link LoadRun#runAsync}. Creating the resources of an asset
+     * would block, so the cycles negotiate in turn on assets seeded beforehand. The transfer request is timed apart
+     * from the negotiation, and the pull is timed until the last byte.
+     *
+     * @param consumer the consumer control plane
+     * @param provider the provider control plane
+     * @param assetIds the ids of the assets offered by the provider
+     * @return the cycle
+     */
+    static LoadRun.AsyncCycle pipelinedCycle(AsyncControlPlaneApi consumer, ControlPlaneApi provider, List<String> assetIds) {
+        var next = new AtomicLong();
+        return phases -> {
+            var assetId = assetIds.get((int) (next.getAndIncrement() % assetIds.size()));
+            return phases.timeAsync("negotiation", () -> consumer.negotiate(assetId, provider))
+                    .thenCompose(agreementId -> phases.timeAsync("transferRequest", () -> consumer.startTransfer(agreementId, provider, "HttpData-PULL")))
+                    .thenCompose(transferProcessId -> phases.timeAsync("transferStart", () -> consumer.awaitTransferState(transferProcessId, STARTED))
+                            .thenCompose(v -> phases.timeAsync("edrAvailable", () -> consumer.getEdr(transferProcessId))))
+                    .thenCompose(edr -> phases.timeAsync("pull", () -> consumer.pullData(edr, Map.of("message", assetId))));
+        };
+    }
+}
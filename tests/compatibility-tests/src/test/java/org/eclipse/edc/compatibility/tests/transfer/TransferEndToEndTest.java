@@ -15,8 +15,10 @@
 package org.eclipse.edc.compatibility.tests.transfer;
 
 import jakarta.json.JsonObject;
+import org.eclipse.edc.compatibility.tests.clock.VirtualClock;
 import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimeExtension;
 import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimes;
+import org.eclipse.edc.compatibility.tests.fixtures.RuntimeStartupCoordinator;
 import org.eclipse.edc.connector.controlplane.test.system.utils.PolicyFixtures;
 import org.eclipse.edc.junit.annotations.EndToEndTest;
 import org.eclipse.edc.junit.annotations.Runtime;
@@ -26,39 +28,71 @@ import org.eclipse.edc.junit.utils.Endpoints;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.eclipse.edc.tests.fixtures.ResourceReservations;
 import org.eclipse.edc.tests.fixtures.Runtimes;
+import org.eclipse.edc.tests.fixtures.clock.ClockControl;
+import org.eclipse.edc.tests.fixtures.clock.VirtualClockExtension;
 import org.eclipse.edc.tests.fixtures.extension.cp.ControlPlaneApi;
+import org.eclipse.edc.tests.fixtures.extension.cp.ControlPlaneTransport;
+import org.eclipse.edc.tests.fixtures.extension.cp.SeedGenerator;
+import org.eclipse.edc.tests.fixtures.extension.cp.TransferEventWebhook;
+import org.eclipse.edc.tests.fixtures.metrics.BootTimelines;
+import org.eclipse.edc.tests.fixtures.metrics.HeapMeter;
+import org.eclipse.edc.tests.fixtures.metrics.HeapUsage;
+import org.eclipse.edc.tests.fixtures.metrics.LoadReport;
+import org.eclipse.edc.tests.fixtures.metrics.LoadRun;
+import org.eclipse.edc.tests.fixtures.sql.PostgresqlTemplates;
+import org.eclipse.edc.tests.fixtures.sql.SharedPostgresqlEndToEndExtension;
+import org.eclipse.edc.tests.fixtures.transfer.HttpPayloadServer;
 import org.eclipse.edc.tests.fixtures.transfer.HttpProxyDataPlaneExtension;
-import org.jetbrains.annotations.NotNull;
+import org.eclipse.edc.tests.fixtures.transfer.StreamingPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
-import static org.eclipse.edc.connector.controlplane.test.system.utils.PolicyFixtures.noConstraintPolicy;
+import static org.eclipse.edc.compatibility.tests.transfer.HttpPullScenario.httpSourceDataAddress;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETED;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.SUSPENDED;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
-import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 import static org.eclipse.edc.tests.fixtures.Runtimes.ControlPlane.dataPlaneSelectorFor;
-
-
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ;
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ_WRITE;
+
+/**
+ * The tests run concurrently against the shared runtimes: every invocation talks its protocol version through its own
+ * {@link ControlPlaneApi#withProtocol(String, String)} views and works on its own assets, so the functional tests share
+ * the {@link #RUNTIMES} lock. Only the tests that measure throughput or heap usage, and the contract expiry tests,
+ * which advance the {@link ClockControl clocks} of all the runtimes, take it exclusively.
+ */
 @EndToEndTest
+@Execution(ExecutionMode.CONCURRENT)
 public class TransferEndToEndTest {
 
     public static final String REMOTE = "remote";
@@ -66,39 +100,74 @@ public class TransferEndToEndTest {
     public static final String LOCAL_CP = "local-controlplane";
     public static final String LOCAL_DP = "local-dataplane";
     public static final String REMOTE_CP = "remote-controlplane";
+    public static final String REMOTE_DP = "dataplane";
+    static final String LOCAL_DB = ResourceReservations.database(LOCAL);
+    static final String REMOTE_DB = ResourceReservations.database(REMOTE);
+    static final long DEFAULT_PAYLOAD_SIZE = 64L * 1024 * 1024;
+    static final int CACHED_PULLS = 10;
+    static final String LOAD_TEST_ENV = "EDC_TEST_LOAD";
+    static final String THROUGHPUT_TEST_ENV = "EDC_TEST_THROUGHPUT";
+    static final String LOAD_TRANSPORT_ENV = "EDC_TEST_LOAD_TRANSPORT";
+    static final String LOAD_HTTP2_ENV = "EDC_TEST_LOAD_HTTP2";
+    static final String RUNTIMES = "transfer-runtimes";
+    static final int SEED_CONCURRENCY = 16;
+    static final String BULK_SEED_TEST_ENV = "EDC_TEST_BULK_SEED";
+    static final String SEED_PROPERTY = "edc.test.seed";
+    static final long DEFAULT_SEED = 42;
     static final Endpoints LOCAL_CP_ENDPOINTS = Runtimes.ControlPlane.ENDPOINTS.build();
     static final Endpoints REMOTE_CP_ENDPOINTS = DockerRuntimes.ControlPlane.ENDPOINTS.build();
+    static final TransferEventWebhook REMOTE_CP_EVENTS = new TransferEventWebhook();
+    static final String CONTRACT_EXPIRY = "1d";
+    // the in-process runtimes share their clock, the containers are controlled through their clock endpoint
+    static final VirtualClock LOCAL_CLOCK = new VirtualClock(Clock.systemUTC());
+    static final int REMOTE_CP_CLOCK_PORT = ResourceReservations.port();
+    static final int REMOTE_DP_CLOCK_PORT = ResourceReservations.port();
+
+    // registered first, to see the console output of the in-process runtimes from their boot
+    @Order(0)
+    @RegisterExtension
+    static final BootTimelines BOOT_TIMELINES = new BootTimelines();
 
     @Order(0)
     @RegisterExtension
-    static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = new PostgresqlEndToEndExtension();
+    static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = SharedPostgresqlEndToEndExtension.instance();
 
-    @Order(2)
+    @Order(5)
     @RegisterExtension
     static final DockerRuntimeExtension CONTROL_PLANE_T = DockerRuntimes.ControlPlane.create(REMOTE_CP)
             .endpoints(REMOTE_CP_ENDPOINTS)
             .envProvider(() -> DockerRuntimes.ControlPlane.env(REMOTE))
-            .envProvider(pgEnv(REMOTE))
-            .paramProvider(ControlPlaneApi.class, DockerRuntimes.ControlPlane::controlPlaneApi);
-
-    @Order(3)
+            .envProvider(pgEnv(REMOTE_DB))
+            .envProvider(REMOTE_CP_EVENTS::env)
+            .envProvider(() -> DockerRuntimes.clockEnv(REMOTE_CP_CLOCK_PORT))
+            .reusableWhile(DockerRuntimes::clockNotAdvanced)
+            .paramProvider(ControlPlaneApi.class, ctx -> DockerRuntimes.ControlPlane.controlPlaneApi(ctx, REMOTE_CP_EVENTS))
+            .paramProvider(ClockControl.class, DockerRuntimes::clockControl);
+
+    @Order(6)
     @RegisterExtension
-    static final DockerRuntimeExtension DATA_PLANE_T = DockerRuntimes.DataPlane.create("dataplane")
+    static final DockerRuntimeExtension DATA_PLANE_T = DockerRuntimes.DataPlane.create(REMOTE_DP)
+            .dependsOn(CONTROL_PLANE_T)
             .endpoints(DockerRuntimes.DataPlane.ENDPOINTS.build())
             .envProvider(() -> DockerRuntimes.ControlPlane.dataPlaneSelectorFor(REMOTE_CP_ENDPOINTS))
             .envProvider(DockerRuntimes.DataPlane::env)
-            .envProvider(pgEnv(REMOTE));
-    @Order(2)
+            .envProvider(() -> DockerRuntimes.clockEnv(REMOTE_DP_CLOCK_PORT))
+            .reusableWhile(DockerRuntimes::clockNotAdvanced)
+            .envProvider(pgEnv(REMOTE_DB))
+            .paramProvider(HeapMeter.class, DockerRuntimes.DataPlane::heapMeter)
+            .paramProvider(ClockControl.class, DockerRuntimes::clockControl);
+    @Order(3)
     @RegisterExtension
     static final RuntimeExtension LOCAL_CONTROL_PLANE = ComponentRuntimeExtension.Builder.newInstance()
             .name(LOCAL_CP)
             .modules(Runtimes.ControlPlane.MODULES)
             .endpoints(LOCAL_CP_ENDPOINTS)
             .configurationProvider(() -> Runtimes.ControlPlane.config(LOCAL_CP))
-            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(LOCAL))
+            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(LOCAL_DB))
             .paramProvider(ControlPlaneApi.class, ControlPlaneApi::forContext)
-            .build();
-    @Order(3)
+            .build()
+            .registerSystemExtension(ServiceExtension.class, new VirtualClockExtension(LOCAL_CLOCK));
+    @Order(4)
     @RegisterExtension
     static final RuntimeExtension LOCAL_DATA_PLANE = ComponentRuntimeExtension.Builder.newInstance()
             .name(LOCAL_DP)
@@ -106,40 +175,43 @@ public class TransferEndToEndTest {
             .endpoints(Runtimes.DataPlane.ENDPOINTS.build())
             .configurationProvider(Runtimes.DataPlane::config)
             .configurationProvider(() -> dataPlaneSelectorFor(LOCAL_CP_ENDPOINTS))
-            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(LOCAL))
+            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(LOCAL_DB))
             .build()
-            .registerSystemExtension(ServiceExtension.class, new HttpProxyDataPlaneExtension());
+            .registerSystemExtension(ServiceExtension.class, new HttpProxyDataPlaneExtension())
+            .registerSystemExtension(ServiceExtension.class, new VirtualClockExtension(LOCAL_CLOCK));
+
+    @Order(1)
+    @RegisterExtension
+    static final PostgresqlTemplates POSTGRESQL_TEMPLATES = new PostgresqlTemplates(POSTGRESQL_EXTENSION);
+
+    // records the schema of the databases once the runtimes have booted, before the tests add data to them
+    @Order(7)
+    @RegisterExtension
+    static final BeforeAllCallback BOOTSTRAPPED_SCHEMAS = POSTGRESQL_TEMPLATES.bootstrapped();
+
+    // stopped before the runtimes, which push into it
+    @Order(8)
+    @RegisterExtension
+    static final HttpPayloadServer PAYLOAD_SERVER = new HttpPayloadServer();
 
     @Order(1)
     @RegisterExtension
     static final BeforeAllCallback CREATE_DATABASES = context -> {
-        POSTGRESQL_EXTENSION.createDatabase(LOCAL);
-        POSTGRESQL_EXTENSION.createDatabase(REMOTE);
+        POSTGRESQL_TEMPLATES.createDatabase(LOCAL_DB, "snapshot-connector", PostgresqlTemplates::classpathFingerprint);
+        POSTGRESQL_TEMPLATES.createDatabase(REMOTE_DB, "stable-connector", () -> DockerRuntimes.imageId(DockerRuntimes.ControlPlane.IMAGE) + DockerRuntimes.imageId(DockerRuntimes.DataPlane.IMAGE));
     };
 
+    // starts the containers in background, they are awaited after the in-process runtimes have booted
+    @Order(2)
+    @RegisterExtension
+    static final RuntimeStartupCoordinator STARTUP_COORDINATOR = new RuntimeStartupCoordinator(CONTROL_PLANE_T, DATA_PLANE_T);
 
-    static Supplier<Map<String, String>> pgEnv(String databaseName) {
-        return () -> {
-            var cfg = POSTGRESQL_EXTENSION.configFor(databaseName);
-            return cfg.getEntries().entrySet().stream()
-                    .collect(Collectors.toMap(e -> toEnv(e.getKey()), Map.Entry::getValue));
-        };
-    }
 
-    static String toEnv(String cfg) {
-        return cfg.toUpperCase().replace('.', '_');
+    static Supplier<Map<String, String>> pgEnv(String databaseName) {
+        return () -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, databaseName);
     }
 
 
-    private static @NotNull Map<String, Object> httpSourceDataAddress() {
-        return Map.of(
-                EDC_NAMESPACE + "name", "transfer-test",
-                EDC_NAMESPACE + "baseUrl", "http://localhost",
-                EDC_NAMESPACE + "type", "HttpData",
-                EDC_NAMESPACE + "proxyQueryParams", "true"
-        );
-    }
-
     @BeforeEach
     void storeKeys(@Runtime(LOCAL_DP) Vault vault) {
         var privateKey = getResourceFileContentAsString("certs/key.pem");
@@ -148,25 +220,42 @@ public class TransferEndToEndTest {
         vault.storeSecret("public-key", publicKey);
     }
 
+    @ResourceLock(value = RUNTIMES, mode = READ)
+    @Test
+    void transferEvents_whenConsumerRemote(@Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote) throws Exception {
+        local.waitForDataPlane();
+        var assetId = UUID.randomUUID().toString();
+        createResourcesOnProvider(local, assetId, PolicyFixtures.noConstraintPolicy(), httpSourceDataAddress());
+        var events = REMOTE_CP_EVENTS.eventsFor(CONTROL_PLANE_T.getContext().getConfig()).orElseThrow();
+
+        var transferProcessId = remote.requestAssetFrom(assetId, local)
+                .withTransferType("HttpData-PULL")
+                .execute();
+
+        // completed by the callback of the container only, not by polling
+        events.awaitState(transferProcessId, STARTED.name()).get(remote.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ)
     @ParameterizedTest
     @ArgumentsSource(ParticipantsArgProvider.class)
     void httpPullTransfer_whenConsumerRemote(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote) {
         httpPullTransfer(protocol, path, remote, local);
     }
 
+    @ResourceLock(value = RUNTIMES, mode = READ)
     @ParameterizedTest
     @ArgumentsSource(ParticipantsArgProvider.class)
     void httpPullTransfer_whenConsumerLocal(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote) {
         httpPullTransfer(protocol, path, local, remote);
     }
 
-    private void httpPullTransfer(String protocol, String path, ControlPlaneApi consumer, ControlPlaneApi provider) {
-        consumer.setProtocol(protocol, path);
-        provider.setProtocol(protocol, path);
+    private void httpPullTransfer(String protocol, String path, ControlPlaneApi consumerRuntime, ControlPlaneApi providerRuntime) {
+        var consumer = consumerRuntime.withProtocol(protocol, path);
+        var provider = providerRuntime.withProtocol(protocol, path);
         provider.waitForDataPlane();
         var assetId = UUID.randomUUID().toString();
-        var sourceDataAddress = httpSourceDataAddress();
-        createResourcesOnProvider(provider, assetId, PolicyFixtures.contractExpiresIn("5s"), sourceDataAddress);
+        createResourcesOnProvider(provider, assetId, PolicyFixtures.noConstraintPolicy(), httpSourceDataAddress());
 
         var transferProcessId = consumer.requestAssetFrom(assetId, provider)
                 .withTransferType("HttpData-PULL")
@@ -181,6 +270,50 @@ public class TransferEndToEndTest {
         var msg = UUID.randomUUID().toString();
         await().atMost(consumer.getTimeout())
                 .untilAsserted(() -> consumer.pullData(edr, Map.of("message", msg), body -> assertThat(body).isEqualTo("data")));
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ_WRITE)
+    @ParameterizedTest
+    @ArgumentsSource(ParticipantsArgProvider.class)
+    void httpPullTransfer_contractExpiry_whenConsumerRemote(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                                            @Runtime(REMOTE_CP) ClockControl remoteControlPlaneClock, @Runtime(REMOTE_DP) ClockControl remoteDataPlaneClock) {
+        httpPullTransfer_contractExpiry(protocol, path, remote, local, ClockControl.all(LOCAL_CLOCK::advance, remoteControlPlaneClock, remoteDataPlaneClock));
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ_WRITE)
+    @ParameterizedTest
+    @ArgumentsSource(ParticipantsArgProvider.class)
+    void httpPullTransfer_contractExpiry_whenConsumerLocal(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                                           @Runtime(REMOTE_CP) ClockControl remoteControlPlaneClock, @Runtime(REMOTE_DP) ClockControl remoteDataPlaneClock) {
+        httpPullTransfer_contractExpiry(protocol, path, local, remote, ClockControl.all(LOCAL_CLOCK::advance, remoteControlPlaneClock, remoteDataPlaneClock));
+    }
+
+    /**
+     * Pulls data under a contract that expires, then advances the clocks of all the runtimes past the expiry and checks
+     * that the EDR is gone and that the data can no longer be pulled.
+     */
+    private void httpPullTransfer_contractExpiry(String protocol, String path, ControlPlaneApi consumerRuntime, ControlPlaneApi providerRuntime, ClockControl clocks) {
+        var consumer = consumerRuntime.withProtocol(protocol, path);
+        var provider = providerRuntime.withProtocol(protocol, path);
+        provider.waitForDataPlane();
+        var assetId = UUID.randomUUID().toString();
+        createResourcesOnProvider(provider, assetId, PolicyFixtures.contractExpiresIn(CONTRACT_EXPIRY), httpSourceDataAddress());
+
+        var transferProcessId = consumer.requestAssetFrom(assetId, provider)
+                .withTransferType("HttpData-PULL")
+                .execute();
+
+        consumer.awaitTransferToBeInState(transferProcessId, STARTED);
+
+        var edr = await().atMost(consumer.getTimeout())
+                .until(() -> consumer.getEdr(transferProcessId), Objects::nonNull);
+
+        var msg = UUID.randomUUID().toString();
+        await().atMost(consumer.getTimeout())
+                .untilAsserted(() -> consumer.pullData(edr, Map.of("message", msg), body -> assertThat(body).isEqualTo("data")));
+
+        // lets the contract expire without waiting for it
+        clocks.advance(Duration.ofDays(1).plusMinutes(1));
 
         // checks that the EDR is gone once the contract expires
         await().atMost(consumer.getTimeout())
@@ -189,25 +322,267 @@ public class TransferEndToEndTest {
         // checks that transfer fails
         await().atMost(consumer.getTimeout())
                 .untilAsserted(() -> assertThatThrownBy(() -> consumer.pullData(edr, Map.of("message", msg), body -> assertThat(body).isEqualTo("data"))));
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ_WRITE)
+    @ParameterizedTest
+    @ArgumentsSource(ParticipantsArgProvider.class)
+    @EnabledIfEnvironmentVariable(named = THROUGHPUT_TEST_ENV, matches = "true")
+    void httpPullTransfer_largePayload_whenConsumerLocal(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                                         TestReporter reporter) {
+        httpPullTransfer_largePayload("snapshot->stable", protocol, path, local, remote, reporter);
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ_WRITE)
+    @ParameterizedTest
+    @ArgumentsSource(ParticipantsArgProvider.class)
+    @EnabledIfEnvironmentVariable(named = THROUGHPUT_TEST_ENV, matches = "true")
+    void httpPullTransfer_largePayload_whenConsumerRemote(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                                          TestReporter reporter) {
+        httpPullTransfer_largePayload("stable->snapshot", protocol, path, remote, local, reporter);
+    }
+
+    /**
+     * Pulls a streamed payload through the EDR and reports throughput and peak heap of the test JVM, which hosts the
+     * in-process runtimes. The payload size can be set with the {@code EDC_TEST_PAYLOAD_SIZE} environment variable.
+     */
+    private void httpPullTransfer_largePayload(String pairing, String protocol, String path, ControlPlaneApi consumerRuntime, ControlPlaneApi providerRuntime,
+                                               TestReporter reporter) {
+        var consumer = consumerRuntime.withProtocol(protocol, path);
+        var provider = providerRuntime.withProtocol(protocol, path);
+        provider.waitForDataPlane();
+        var assetId = UUID.randomUUID().toString();
+        createResourcesOnProvider(provider, assetId, PolicyFixtures.noConstraintPolicy(), httpSourceDataAddress());
+
+        var transferProcessId = consumer.requestAssetFrom(assetId, provider)
+                .withTransferType("HttpData-PULL")
+                .execute();
+
+        consumer.awaitTransferToBeInState(transferProcessId, STARTED);
+
+        var edr = await().atMost(consumer.getTimeout()).until(() -> consumer.getEdr(transferProcessId), Objects::nonNull);
+
+        var payloadSize = payloadSize();
+        var queryParams = Map.of(
+                StreamingPayload.SIZE_PARAM, String.valueOf(payloadSize),
+                StreamingPayload.CHUNK_SIZE_PARAM, String.valueOf(1024 * 1024)
+        );
+
+        HeapUsage.resetPeak();
+        var start = System.nanoTime();
+        var received = consumer.pullDataStream(edr, queryParams);
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(received).isEqualTo(payloadSize);
+        var throughput = (received / (1024.0 * 1024.0)) / (elapsed.toNanos() / 1_000_000_000.0);
+        reporter.publishEntry("pull-%s-%s".formatted(pairing, protocol), "%d bytes in %d ms: %.2f MB/s, peak heap %d MB"
+                .formatted(received, elapsed.toMillis(), throughput, HeapUsage.peak() / (1024 * 1024)));
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ_WRITE)
+    @ParameterizedTest
+    @ArgumentsSource(ParticipantsArgProvider.class)
+    @EnabledIfEnvironmentVariable(named = THROUGHPUT_TEST_ENV, matches = "true")
+    void httpPushTransfer_whenConsumerLocal(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                            @Runtime(REMOTE_DP) HeapMeter remoteDataPlaneHeap, TestReporter reporter) {
+        httpPushTransfer("snapshot->stable", protocol, path, local, remote, remoteDataPlaneHeap, reporter);
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ_WRITE)
+    @ParameterizedTest
+    @ArgumentsSource(ParticipantsArgProvider.class)
+    @EnabledIfEnvironmentVariable(named = THROUGHPUT_TEST_ENV, matches = "true")
+    void httpPushTransfer_whenConsumerRemote(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                             TestReporter reporter) {
+        httpPushTransfer("stable->snapshot", protocol, path, remote, local, HeapMeter.local(), reporter);
+    }
+
+    /**
+     * Pushes a payload from a local source to a local sink through the provider data plane, and reports throughput,
+     * time to completion and peak heap of the provider data plane. The heap of the in-process data plane is the one of
+     * the test JVM. The payload size can be set with the {@code EDC_TEST_PAYLOAD_SIZE} environment variable.
+     */
+    private void httpPushTransfer(String pairing, String protocol, String path, ControlPlaneApi consumerRuntime, ControlPlaneApi providerRuntime,
+                                  HeapMeter providerDataPlaneHeap, TestReporter reporter) {
+        var consumer = consumerRuntime.withProtocol(protocol, path);
+        var provider = providerRuntime.withProtocol(protocol, path);
+        provider.waitForDataPlane();
+        var assetId = UUID.randomUUID().toString();
+        var payloadSize = payloadSize();
+        createResourcesOnProvider(provider, assetId, PolicyFixtures.noConstraintPolicy(), PAYLOAD_SERVER.sourceDataAddress(payloadSize));
+
+        var sinkId = UUID.randomUUID().toString();
+        providerDataPlaneHeap.resetPeak();
+        var start = System.nanoTime();
+        var transferProcessId = consumer.requestAssetFrom(assetId, provider)
+                .withTransferType("HttpData-PUSH")
+                .withDestination(PAYLOAD_SERVER.sinkDataAddress(sinkId))
+                .execute();
+
+        var received = PAYLOAD_SERVER.received(sinkId).orTimeout(consumer.getTimeout().toMillis(), TimeUnit.MILLISECONDS).join();
+        consumer.awaitTransferToBeInState(transferProcessId, COMPLETED);
 
+        assertThat(received.bytes()).isEqualTo(payloadSize);
+        var timeToCompletion = Duration.ofNanos(received.endNanos() - start);
+        reporter.publishEntry("push-%s-%s".formatted(pairing, protocol), "%d bytes in %d ms, %d ms from the transfer request: %.2f MB/s, provider data plane peak heap %d MB"
+                .formatted(received.bytes(), received.elapsed().toMillis(), timeToCompletion.toMillis(), received.megabytesPerSecond(),
+                        providerDataPlaneHeap.peak() / (1024 * 1024)));
+    }
+
+    private static long payloadSize() {
+        return Long.parseLong(Objects.requireNonNullElse(System.getenv("EDC_TEST_PAYLOAD_SIZE"), String.valueOf(DEFAULT_PAYLOAD_SIZE)));
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ_WRITE)
+    @ParameterizedTest
+    @ArgumentsSource(ParticipantsArgProvider.class)
+    @EnabledIfEnvironmentVariable(named = LOAD_TEST_ENV, matches = "true")
+    void httpPullTransfer_load_whenConsumerLocal(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                                 TestReporter reporter) {
+        httpPullTransfer_load("snapshot->stable", protocol, path, local, remote, reporter);
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ_WRITE)
+    @ParameterizedTest
+    @ArgumentsSource(ParticipantsArgProvider.class)
+    @EnabledIfEnvironmentVariable(named = LOAD_TEST_ENV, matches = "true")
+    void httpPullTransfer_load_whenConsumerRemote(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                                  TestReporter reporter) {
+        httpPullTransfer_load("stable->snapshot", protocol, path, remote, local, reporter);
+    }
+
+    /**
+     * Runs concurrent {@link HttpPullScenario#cycle} cycles, as configured by {@link LoadRun#fromEnv()}, and writes the
+     * latencies of every phase to a report under {@link LoadReport#DIRECTORY}, whose summary and path are published as
+     * report entries. The requests go through a pooled transport shared by consumer and provider, unless
+     * {@link #LOAD_TRANSPORT_ENV} is {@code per-request}.
+     */
+    private void httpPullTransfer_load(String pairing, String protocol, String path, ControlPlaneApi consumerRuntime, ControlPlaneApi providerRuntime,
+                                       TestReporter reporter) {
+        var run = LoadRun.fromEnv();
+        try (var transport = loadTransport(run.getConcurrency())) {
+            var consumer = consumerRuntime.withTransport(transport).withProtocol(protocol, path);
+            var provider = providerRuntime.withTransport(transport).withProtocol(protocol, path);
+            provider.waitForDataPlane();
+
+            var name = "transfer-%s-%s".formatted(pairing, protocol);
+            var report = run.run(name, HttpPullScenario.cycle(consumer, provider));
+
+            var file = report.write();
+            reporter.publishEntry(name, report.toString());
+            reporter.publishEntry(name + "-file", file.toAbsolutePath().toString());
+            reporter.publishEntry(name + "-transport", transport.stats().toString());
+
+            assertThat(report.failures()).isEmpty();
+            assertThat(report.completed()).isPositive();
+        }
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ_WRITE)
+    @ParameterizedTest
+    @ArgumentsSource(ParticipantsArgProvider.class)
+    @EnabledIfEnvironmentVariable(named = LOAD_TEST_ENV, matches = "true")
+    void httpPullTransfer_pipelined_whenConsumerLocal(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                                      TestReporter reporter) {
+        httpPullTransfer_pipelined("snapshot->stable", protocol, path, local, remote, reporter);
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ_WRITE)
+    @ParameterizedTest
+    @ArgumentsSource(ParticipantsArgProvider.class)
+    @EnabledIfEnvironmentVariable(named = LOAD_TEST_ENV, matches = "true")
+    void httpPullTransfer_pipelined_whenConsumerRemote(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                                       TestReporter reporter) {
+        httpPullTransfer_pipelined("stable->snapshot", protocol, path, remote, local, reporter);
+    }
 
+    /**
+     * Like {@link #httpPullTransfer_load}, but the cycles are {@link HttpPullScenario#pipelinedCycle} pipelines driven
+     * from a single thread, and the concurrency of {@link LoadRun#fromEnv()} is the number of cycles in flight. The
+     * provider is seeded beforehand with an asset per cycle in flight, generated from the {@link #seed} of the run.
+     */
+    private void httpPullTransfer_pipelined(String pairing, String protocol, String path, ControlPlaneApi consumerRuntime, ControlPlaneApi providerRuntime,
+                                            TestReporter reporter) {
+        var run = LoadRun.fromEnv();
+        try (var transport = loadTransport(run.getConcurrency())) {
+            var consumer = consumerRuntime.withTransport(transport).withProtocol(protocol, path);
+            var provider = providerRuntime.withTransport(transport).withProtocol(protocol, path);
+            provider.waitForDataPlane();
+
+            var generator = SeedGenerator.deterministic(seed(reporter), run.getConcurrency(), httpSourceDataAddress());
+            provider.seed(generator, SEED_CONCURRENCY);
+            var assetIds = generator.assets().map(seed -> seed.asset().id()).toList();
+
+            var name = "pipelined-%s-%s".formatted(pairing, protocol);
+            var report = run.runAsync(name, HttpPullScenario.pipelinedCycle(consumer.async(), provider, assetIds));
+
+            var file = report.write();
+            reporter.publishEntry(name, report.toString());
+            reporter.publishEntry(name + "-file", file.toAbsolutePath().toString());
+            reporter.publishEntry(name + "-transport", transport.stats().toString());
+
+            assertThat(report.failures()).isEmpty();
+            assertThat(report.completed()).isPositive();
+        }
+    }
+
+    private static ControlPlaneTransport loadTransport(int concurrency) {
+        if ("per-request".equals(System.getenv(LOAD_TRANSPORT_ENV))) {
+            return ControlPlaneTransport.perRequest();
+        }
+        var version = Boolean.parseBoolean(System.getenv(LOAD_HTTP2_ENV)) ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+        // consumer and provider requests share the pool
+        return ControlPlaneTransport.pooled(2 * concurrency, version);
     }
 
+    @ResourceLock(value = RUNTIMES, mode = READ)
+    @Test
+    @EnabledIfEnvironmentVariable(named = BULK_SEED_TEST_ENV, matches = "true")
+    void bulkSeed(@Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote, TestReporter reporter) {
+        var assets = Integer.parseInt(Objects.requireNonNullElse(System.getenv("EDC_TEST_SEED_ASSETS"), "1000"));
+        var seed = seed(reporter);
+
+        Map.of("snapshot", local, "stable", remote).forEach((flavour, provider) -> {
+            var generator = SeedGenerator.deterministic(seed, assets, httpSourceDataAddress());
+            var report = provider.seed(generator, SEED_CONCURRENCY);
+            reporter.publishEntry("bulk-seed-" + flavour, report.toString());
+
+            // one shared policy definition, and an asset and a contract definition per asset
+            assertThat(report.entities()).isEqualTo(1 + 2L * assets);
+            // the same seed generates the same entities, which already exist
+            assertThat(provider.seed(generator, SEED_CONCURRENCY).entities()).isEqualTo(report.entities());
+        });
+    }
+
+    /**
+     * The seed of the generated entities, set with the {@link #SEED_PROPERTY} system property and published, so that
+     * a run can be repeated.
+     */
+    private static long seed(TestReporter reporter) {
+        var seed = Long.getLong(SEED_PROPERTY, DEFAULT_SEED);
+        reporter.publishEntry(SEED_PROPERTY, String.valueOf(seed));
+        return seed;
+    }
+
+    @ResourceLock(value = RUNTIMES, mode = READ)
     @ParameterizedTest
     @ArgumentsSource(ParticipantsArgProvider.class)
-    void httpPullTransfer_suspendAndResume_whenConsumerLocal(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote) {
-        httpPullTransfer_suspendAndResume(protocol, path, local, remote);
+    void httpPullTransfer_suspendAndResume_whenConsumerLocal(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                                            TestReporter reporter) {
+        httpPullTransfer_suspendAndResume(protocol, path, local, remote, reporter);
     }
 
+    @ResourceLock(value = RUNTIMES, mode = READ)
     @ParameterizedTest
     @ArgumentsSource(ParticipantsArgProvider.class)
-    void httpPullTransfer_suspendAndResume_whenConsumerRemote(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote) {
-        httpPullTransfer_suspendAndResume(protocol, path, remote, local);
+    void httpPullTransfer_suspendAndResume_whenConsumerRemote(String protocol, String path, @Runtime(LOCAL_CP) ControlPlaneApi local, @Runtime(REMOTE_CP) ControlPlaneApi remote,
+                                                             TestReporter reporter) {
+        httpPullTransfer_suspendAndResume(protocol, path, remote, local, reporter);
     }
 
-    private void httpPullTransfer_suspendAndResume(String protocol, String path, ControlPlaneApi consumer, ControlPlaneApi provider) {
-        consumer.setProtocol(protocol, path);
-        provider.setProtocol(protocol, path);
+    private void httpPullTransfer_suspendAndResume(String protocol, String path, ControlPlaneApi consumerRuntime, ControlPlaneApi providerRuntime, TestReporter reporter) {
+        var consumer = consumerRuntime.withProtocol(protocol, path);
+        var provider = providerRuntime.withProtocol(protocol, path);
         provider.waitForDataPlane();
         var assetId = UUID.randomUUID().toString();
         createResourcesOnProvider(provider, assetId, PolicyFixtures.noConstraintPolicy(), httpSourceDataAddress());
@@ -223,6 +598,15 @@ public class TransferEndToEndTest {
         var msg = UUID.randomUUID().toString();
         await().atMost(consumer.getTimeout()).untilAsserted(() -> consumer.pullData(edr, Map.of("message", msg), body -> assertThat(body).isEqualTo("data")));
 
+        // repeated pulls with the same EDR are served from the proxy authorization cache
+        var cacheStatuses = new ArrayList<String>();
+        for (var i = 0; i < CACHED_PULLS; i++) {
+            var response = consumer.pullDataResponse(edr, Map.of("message", msg));
+            assertThat(response.statusCode()).isEqualTo(200);
+            cacheStatuses.add(response.header(HttpProxyDataPlaneExtension.AUTHORIZATION_CACHE_HEADER));
+        }
+        assertThat(cacheStatuses).contains("HIT");
+
         consumer.suspendTransfer(transferProcessId, "supension");
 
         consumer.awaitTransferToBeInState(transferProcessId, SUSPENDED);
@@ -231,6 +615,14 @@ public class TransferEndToEndTest {
         await().atMost(consumer.getTimeout()).untilAsserted(() -> assertThatThrownBy(() -> consumer.getEdr(transferProcessId)));
         // checks that transfer fails
         await().atMost(consumer.getTimeout()).untilAsserted(() -> assertThatThrownBy(() -> consumer.pullData(edr, Map.of("message", msg), body -> assertThat(body).isEqualTo("data"))));
+        // checks that the revoked token is never served from the cache afterward
+        for (var i = 0; i < CACHED_PULLS; i++) {
+            var response = consumer.pullDataResponse(edr, Map.of("message", msg));
+            assertThat(response.statusCode()).isEqualTo(403);
+            assertThat(response.header(HttpProxyDataPlaneExtension.AUTHORIZATION_CACHE_HEADER)).isNull();
+        }
+        var hits = cacheStatuses.stream().filter("HIT"::equals).count();
+        reporter.publishEntry("proxy-authorization-cache-" + protocol, "hit rate %d/%d".formatted(hits, cacheStatuses.size()));
 
         consumer.resumeTransfer(transferProcessId);
 
@@ -242,11 +634,7 @@ public class TransferEndToEndTest {
     }
 
     protected void createResourcesOnProvider(ControlPlaneApi provider, String assetId, JsonObject contractPolicy, Map<String, Object> dataAddressProperties) {
-        provider.createAsset(assetId, Map.of("description", "description"), dataAddressProperties);
-        var contractPolicyId = provider.createPolicyDefinition(contractPolicy);
-        var noConstraintPolicyId = provider.createPolicyDefinition(noConstraintPolicy());
-
-        provider.createContractDefinition(assetId, UUID.randomUUID().toString(), noConstraintPolicyId, contractPolicyId);
+        HttpPullScenario.createResourcesOnProvider(provider, assetId, contractPolicy, dataAddressProperties);
     }
 
     private static class ParticipantsArgProvider implements ArgumentsProvider {
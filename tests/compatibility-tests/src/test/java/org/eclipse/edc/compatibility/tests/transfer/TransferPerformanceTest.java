@@ -0,0 +1,283 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.compatibility.tests.transfer;
+
+import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimeExtension;
+import org.eclipse.edc.compatibility.tests.fixtures.DockerRuntimes;
+import org.eclipse.edc.compatibility.tests.fixtures.RuntimeStartupCoordinator;
+import org.eclipse.edc.junit.annotations.EndToEndTest;
+import org.eclipse.edc.junit.annotations.Runtime;
+import org.eclipse.edc.junit.extensions.ComponentRuntimeExtension;
+import org.eclipse.edc.junit.extensions.RuntimeExtension;
+import org.eclipse.edc.junit.utils.Endpoints;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.eclipse.edc.tests.fixtures.ResourceReservations;
+import org.eclipse.edc.tests.fixtures.Runtimes;
+import org.eclipse.edc.tests.fixtures.extension.cp.ControlPlaneApi;
+import org.eclipse.edc.tests.fixtures.extension.cp.TransferEventWebhook;
+import org.eclipse.edc.tests.fixtures.metrics.LoadReport;
+import org.eclipse.edc.tests.fixtures.metrics.LoadRun;
+import org.eclipse.edc.tests.fixtures.metrics.PerformanceBaseline;
+import org.eclipse.edc.tests.fixtures.sql.PostgresqlTemplates;
+import org.eclipse.edc.tests.fixtures.sql.SharedPostgresqlEndToEndExtension;
+import org.eclipse.edc.tests.fixtures.transfer.HttpProxyDataPlaneExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
+import static org.eclipse.edc.tests.fixtures.Runtimes.ControlPlane.dataPlaneSelectorFor;
+
+/**
+ * Runs the {@link HttpPullScenario} under load for every pairing of stable and snapshot consumer and provider, and
+ * fails when the p99 cycle latency of any other pairing regresses by more than the configured percentage compared to the
+ * stable-only pairing measured in the same run. The snapshot-only pairing is gated as well: it runs in-process, without
+ * the container networking of the stable-only one, so a regression there is one of the snapshot runtimes.
+ * <p>
+ * Results are also compared to the checked-in baseline. A pairing without baseline is reported as a warning and
+ * skipped, unless the baseline is strict, and the regressions against it only fail the test when a maximum baseline
+ * regression is configured, as absolute numbers depend on the machine. Run through the {@code performanceTest} Gradle
+ * task.
+ */
+@EndToEndTest
+@EnabledIfEnvironmentVariable(named = TransferPerformanceTest.PERFORMANCE_TEST_ENV, matches = "true")
+public class TransferPerformanceTest {
+
+    static final String PERFORMANCE_TEST_ENV = "EDC_TEST_PERFORMANCE";
+    static final String MAX_P99_REGRESSION = "edc.test.performance.maxP99Regression";
+    static final String MAX_BASELINE_REGRESSION = "edc.test.performance.maxBaselineRegression";
+    static final String BASELINE_FILE = "edc.test.performance.baseline";
+    static final String UPDATE_BASELINE = "edc.test.performance.updateBaseline";
+    static final String STRICT_BASELINE = "edc.test.performance.strictBaseline";
+    static final String PROTOCOL = "dataspace-protocol-http";
+    // the pairing the p99 of the others is compared with
+    static final String REFERENCE_PAIRING = "stable->stable";
+
+    static final String SNAPSHOT_CONSUMER = "snapshot-consumer";
+    static final String SNAPSHOT_PROVIDER = "snapshot-provider";
+    static final String SNAPSHOT_PROVIDER_DP = "snapshot-provider-dataplane";
+    static final String STABLE_CONSUMER = "stable-consumer";
+    static final String STABLE_PROVIDER = "stable-provider";
+
+    static final Endpoints SNAPSHOT_PROVIDER_ENDPOINTS = Runtimes.ControlPlane.ENDPOINTS.build();
+    static final Endpoints STABLE_PROVIDER_ENDPOINTS = DockerRuntimes.ControlPlane.ENDPOINTS.build();
+    static final TransferEventWebhook STABLE_CONSUMER_EVENTS = new TransferEventWebhook();
+    static final TransferEventWebhook STABLE_PROVIDER_EVENTS = new TransferEventWebhook();
+
+    @Order(0)
+    @RegisterExtension
+    static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = SharedPostgresqlEndToEndExtension.instance();
+
+    @Order(1)
+    @RegisterExtension
+    static final PostgresqlTemplates POSTGRESQL_TEMPLATES = new PostgresqlTemplates(POSTGRESQL_EXTENSION);
+
+    // records the schema of the databases once the runtimes have booted, before the tests add data to them
+    @Order(7)
+    @RegisterExtension
+    static final BeforeAllCallback BOOTSTRAPPED_SCHEMAS = POSTGRESQL_TEMPLATES.bootstrapped();
+
+    @Order(1)
+    @RegisterExtension
+    static final BeforeAllCallback CREATE_DATABASES = context -> {
+        // the provider databases come first, so that the templates also have the tables of the data planes
+        POSTGRESQL_TEMPLATES.createDatabase(database(SNAPSHOT_PROVIDER), "snapshot-connector", PostgresqlTemplates::classpathFingerprint);
+        POSTGRESQL_TEMPLATES.createDatabase(database(SNAPSHOT_CONSUMER), "snapshot-connector", PostgresqlTemplates::classpathFingerprint);
+        POSTGRESQL_TEMPLATES.createDatabase(database(STABLE_PROVIDER), "stable-connector", TransferPerformanceTest::stableFingerprint);
+        POSTGRESQL_TEMPLATES.createDatabase(database(STABLE_CONSUMER), "stable-connector", TransferPerformanceTest::stableFingerprint);
+    };
+
+    @Order(5)
+    @RegisterExtension
+    static final DockerRuntimeExtension STABLE_CONSUMER_CP = DockerRuntimes.ControlPlane.create(STABLE_CONSUMER)
+            .endpoints(DockerRuntimes.ControlPlane.ENDPOINTS.build())
+            .envProvider(() -> DockerRuntimes.ControlPlane.env(STABLE_CONSUMER))
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, database(STABLE_CONSUMER)))
+            .envProvider(STABLE_CONSUMER_EVENTS::env)
+            .paramProvider(ControlPlaneApi.class, ctx -> DockerRuntimes.ControlPlane.controlPlaneApi(ctx, STABLE_CONSUMER_EVENTS));
+
+    @Order(5)
+    @RegisterExtension
+    static final DockerRuntimeExtension STABLE_PROVIDER_CP = DockerRuntimes.ControlPlane.create(STABLE_PROVIDER)
+            .endpoints(STABLE_PROVIDER_ENDPOINTS)
+            .envProvider(() -> DockerRuntimes.ControlPlane.env(STABLE_PROVIDER))
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, database(STABLE_PROVIDER)))
+            .envProvider(STABLE_PROVIDER_EVENTS::env)
+            .paramProvider(ControlPlaneApi.class, ctx -> DockerRuntimes.ControlPlane.controlPlaneApi(ctx, STABLE_PROVIDER_EVENTS));
+
+    @Order(6)
+    @RegisterExtension
+    static final DockerRuntimeExtension STABLE_PROVIDER_DP = DockerRuntimes.DataPlane.create("stable-provider-dataplane")
+            .dependsOn(STABLE_PROVIDER_CP)
+            .endpoints(DockerRuntimes.DataPlane.ENDPOINTS.build())
+            .envProvider(() -> DockerRuntimes.ControlPlane.dataPlaneSelectorFor(STABLE_PROVIDER_ENDPOINTS))
+            .envProvider(DockerRuntimes.DataPlane::env)
+            .envProvider(() -> DockerRuntimes.postgresEnv(POSTGRESQL_EXTENSION, database(STABLE_PROVIDER)));
+
+    // starts the containers in background, they are awaited after the in-process runtimes have booted
+    @Order(2)
+    @RegisterExtension
+    static final RuntimeStartupCoordinator STARTUP_COORDINATOR = new RuntimeStartupCoordinator(STABLE_CONSUMER_CP, STABLE_PROVIDER_CP, STABLE_PROVIDER_DP);
+
+    @Order(3)
+    @RegisterExtension
+    static final RuntimeExtension SNAPSHOT_CONSUMER_CP = ComponentRuntimeExtension.Builder.newInstance()
+            .name(SNAPSHOT_CONSUMER)
+            .modules(Runtimes.ControlPlane.MODULES)
+            .endpoints(Runtimes.ControlPlane.ENDPOINTS.build())
+            .configurationProvider(() -> Runtimes.ControlPlane.config(SNAPSHOT_CONSUMER))
+            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(database(SNAPSHOT_CONSUMER)))
+            .paramProvider(ControlPlaneApi.class, ControlPlaneApi::forContext)
+            .build();
+
+    @Order(3)
+    @RegisterExtension
+    static final RuntimeExtension SNAPSHOT_PROVIDER_CP = ComponentRuntimeExtension.Builder.newInstance()
+            .name(SNAPSHOT_PROVIDER)
+            .modules(Runtimes.ControlPlane.MODULES)
+            .endpoints(SNAPSHOT_PROVIDER_ENDPOINTS)
+            .configurationProvider(() -> Runtimes.ControlPlane.config(SNAPSHOT_PROVIDER))
+            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(database(SNAPSHOT_PROVIDER)))
+            .paramProvider(ControlPlaneApi.class, ControlPlaneApi::forContext)
+            .build();
+
+    @Order(4)
+    @RegisterExtension
+    static final RuntimeExtension SNAPSHOT_PROVIDER_DATA_PLANE = ComponentRuntimeExtension.Builder.newInstance()
+            .name(SNAPSHOT_PROVIDER_DP)
+            .modules(Runtimes.DataPlane.MODULES)
+            .endpoints(Runtimes.DataPlane.ENDPOINTS.build())
+            .configurationProvider(Runtimes.DataPlane::config)
+            .configurationProvider(() -> dataPlaneSelectorFor(SNAPSHOT_PROVIDER_ENDPOINTS))
+            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(database(SNAPSHOT_PROVIDER)))
+            .build()
+            .registerSystemExtension(ServiceExtension.class, new HttpProxyDataPlaneExtension());
+
+    private static String database(String runtime) {
+        return ResourceReservations.database(runtime.replace('-', '_'));
+    }
+
+    private static String stableFingerprint() {
+        return DockerRuntimes.imageId(DockerRuntimes.ControlPlane.IMAGE) + DockerRuntimes.imageId(DockerRuntimes.DataPlane.IMAGE);
+    }
+
+    @BeforeEach
+    void storeKeys(@Runtime(SNAPSHOT_PROVIDER_DP) Vault vault) {
+        vault.storeSecret("private-key", getResourceFileContentAsString("certs/key.pem"));
+        vault.storeSecret("public-key", getResourceFileContentAsString("certs/cert.pem"));
+    }
+
+    @Test
+    void httpPullTransfer_stableVsSnapshot(@Runtime(SNAPSHOT_CONSUMER) ControlPlaneApi snapshotConsumer, @Runtime(SNAPSHOT_PROVIDER) ControlPlaneApi snapshotProvider,
+                                           @Runtime(STABLE_CONSUMER) ControlPlaneApi stableConsumer, @Runtime(STABLE_PROVIDER) ControlPlaneApi stableProvider,
+                                           TestReporter reporter) {
+        // the stable-only pairing runs first, as it is the reference of the others
+        var pairings = new LinkedHashMap<String, ControlPlaneApi[]>();
+        pairings.put(REFERENCE_PAIRING, new ControlPlaneApi[]{ stableConsumer, stableProvider });
+        pairings.put("snapshot->snapshot", new ControlPlaneApi[]{ snapshotConsumer, snapshotProvider });
+        pairings.put("snapshot->stable", new ControlPlaneApi[]{ snapshotConsumer, stableProvider });
+        pairings.put("stable->snapshot", new ControlPlaneApi[]{ stableConsumer, snapshotProvider });
+
+        var reports = new LinkedHashMap<String, LoadReport>();
+        pairings.forEach((pairing, participants) -> reports.put(pairing, run(pairing, participants[0], participants[1], reporter)));
+
+        var regressions = new ArrayList<String>();
+        var maxRegression = Double.parseDouble(System.getProperty(MAX_P99_REGRESSION, "20"));
+        var reference = PerformanceBaseline.Entry.of(reports.get(REFERENCE_PAIRING));
+        reports.forEach((pairing, report) -> {
+            var entry = PerformanceBaseline.Entry.of(report);
+            var regression = regression(entry.p99(), reference.p99());
+            reporter.publishEntry("p99-" + pairing, "%.2f cycles/s, p99 %.2f ms: %+.1f%% p99 vs %s"
+                    .formatted(entry.throughput(), entry.p99(), regression, REFERENCE_PAIRING));
+            if (!REFERENCE_PAIRING.equals(pairing) && regression > maxRegression) {
+                regressions.add("%s p99 %.2f ms is %.1f%% slower than %s p99 %.2f ms (max %.1f%%)"
+                        .formatted(pairing, entry.p99(), regression, REFERENCE_PAIRING, reference.p99(), maxRegression));
+            }
+        });
+
+        var baselineFile = Path.of(System.getProperty(BASELINE_FILE, "performance-baseline.json"));
+        var maxBaselineRegression = System.getProperty(MAX_BASELINE_REGRESSION);
+        var baseline = PerformanceBaseline.read(baselineFile);
+        var updateBaseline = Boolean.getBoolean(UPDATE_BASELINE);
+        var strictBaseline = Boolean.getBoolean(STRICT_BASELINE);
+        reports.forEach((pairing, report) -> {
+            var expected = baseline.runs().get(pairing);
+            if (expected == null) {
+                if (!updateBaseline) {
+                    var missing = "%s has no baseline in %s, record one on the reference machine with -PupdatePerformanceBaseline"
+                            .formatted(pairing, baselineFile.toAbsolutePath());
+                    // a missing baseline would let any regression through, which the strict baseline does not allow
+                    if (strictBaseline) {
+                        regressions.add(missing);
+                    } else {
+                        reporter.publishEntry("performance-baseline-warning-" + pairing, missing);
+                    }
+                }
+                return;
+            }
+            var entry = PerformanceBaseline.Entry.of(report);
+            var p99Regression = regression(entry.p99(), expected.p99());
+            var throughputDrop = regression(expected.throughput(), entry.throughput());
+            reporter.publishEntry("performance-baseline-" + pairing, "%+.1f%% p99, %+.1f%% throughput vs baseline"
+                    .formatted(p99Regression, regression(entry.throughput(), expected.throughput())));
+            if (maxBaselineRegression != null && Math.max(p99Regression, throughputDrop) > Double.parseDouble(maxBaselineRegression)) {
+                regressions.add("%s is %.1f%% slower in p99 and %.1f%% slower in throughput than the baseline (max %s%%)"
+                        .formatted(pairing, p99Regression, throughputDrop, maxBaselineRegression));
+            }
+        });
+
+        if (updateBaseline) {
+            PerformanceBaseline.of(reports).write(baselineFile);
+            reporter.publishEntry("performance-baseline", baselineFile.toAbsolutePath().toString());
+        }
+
+        assertThat(reports.values()).allSatisfy(report -> assertThat(report.failures()).as(report.name()).isEmpty());
+        assertThat(regressions).isEmpty();
+    }
+
+    private LoadReport run(String pairing, ControlPlaneApi participantConsumer, ControlPlaneApi participantProvider, TestReporter reporter) {
+        var consumer = participantConsumer.withProtocol(PROTOCOL, "");
+        var provider = participantProvider.withProtocol(PROTOCOL, "");
+        provider.waitForDataPlane();
+
+        // warms up the runtimes and the test client, the results are discarded
+        new LoadRun(1, 5, null).run("warmup-" + pairing, HttpPullScenario.cycle(consumer, provider));
+
+        var name = "performance-" + pairing;
+        var report = LoadRun.fromEnv().run(name, HttpPullScenario.cycle(consumer, provider));
+        var file = report.write();
+        reporter.publishEntry(name, report.toString());
+        reporter.publishEntry(name + "-file", file.toAbsolutePath().toString());
+        return report;
+    }
+
+    /**
+     * Relative increase of a value compared to its reference, in percent.
+     */
+    private double regression(double value, double reference) {
+        return reference == 0 ? 0 : (value - reference) / reference * 100;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmhImplementation(testFixtures(project(":tests:dcp-tests")))
+    jmhImplementation(libs.edc.spi.participant)
+    jmhImplementation(libs.edc.spi.policy.engine)
+    jmhImplementation(libs.edc.spi.policy.request.context)
+    jmhImplementation(libs.edc.spi.verifiablecredentials)
+}
+
+// run with ./gradlew :tests:dcp-benchmarks:jmh, results are written to build/results/jmh/results.json
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dcp.benchmarks;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+final class BenchmarkCredentials {
+
+    private static final String ISSUER = "did:web:issuer";
+
+    private BenchmarkCredentials() {
+    }
+
+    /**
+     * Creates the credentials of a {@code vc} claim. The membership claim is put in the last subject of the last
+     * credential, so an evaluation has to scan all the credentials and subjects.
+     */
+    static List<VerifiableCredential> credentials(int credentials, int subjectsPerCredential) {
+        var vcs = new ArrayList<VerifiableCredential>();
+        for (var i = 0; i < credentials; i++) {
+            var last = i == credentials - 1;
+            var builder = VerifiableCredential.Builder.newInstance()
+                    .id("credential-" + i)
+                    .type("VerifiableCredential")
+                    .type(last ? "MembershipCredential" : "DataProcessorCredential")
+                    .issuer(new Issuer(ISSUER, Map.of()))
+                    .issuanceDate(Instant.now());
+            for (var j = 0; j < subjectsPerCredential; j++) {
+                var subject = CredentialSubject.Builder.newInstance().id("did:web:holder-" + j);
+                if (last && j == subjectsPerCredential - 1) {
+                    subject.claim("membership", Map.of("membershipType", "FullMember", "since", "2023-01-01T00:00:00Z"));
+                } else {
+                    subject.claim("contractVersion", "1.0.0");
+                }
+                builder.credentialSubject(subject.build());
+            }
+            vcs.add(builder.build());
+        }
+        return vcs;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dcp.benchmarks;
+
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.participant.spi.ParticipantAgentPolicyContext;
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+
+class BenchmarkPolicyContext extends PolicyContextImpl implements ParticipantAgentPolicyContext {
+
+    private final ParticipantAgent participantAgent;
+
+    BenchmarkPolicyContext(ParticipantAgent participantAgent) {
+        this.participantAgent = participantAgent;
+    }
+
+    @Override
+    public ParticipantAgent participantAgent() {
+        return participantAgent;
+    }
+
+    @Override
+    public String scope() {
+        return "benchmark";
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dcp.benchmarks;
+
+import org.eclipse.edc.dcp.tests.extensions.DefaultScopeMappingFunction;
+import org.eclipse.edc.policy.context.request.spi.RequestPolicyContext;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.iam.RequestScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DefaultScopeMappingFunction#apply} on a request scope that already contains a number of scopes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DefaultScopeMappingFunctionBenchmark {
+
+    @Param({ "0", "10", "100" })
+    private int existingScopes;
+
+    private final DefaultScopeMappingFunction function = new DefaultScopeMappingFunction(Set.of("org.eclipse.edc.vc.type:MembershipCredential:read"));
+    private final Policy policy = Policy.Builder.newInstance().build();
+    private Set<String> scopes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scopes = new HashSet<>();
+        for (var i = 0; i < existingScopes; i++) {
+            scopes.add("org.eclipse.edc.vc.type:Credential%d:read".formatted(i));
+        }
+    }
+
+    @Benchmark
+    public Boolean apply() {
+        // a new builder for every invocation, as the function replaces the scopes of the builder it is given
+        var requestScopeBuilder = RequestScope.Builder.newInstance().scopes(scopes);
+        return function.apply(policy, new BenchmarkRequestPolicyContext(requestScopeBuilder));
+    }
+
+    static class BenchmarkRequestPolicyContext extends RequestPolicyContext {
+
+        BenchmarkRequestPolicyContext(RequestScope.Builder requestScopeBuilder) {
+            super(null, requestScopeBuilder);
+        }
+
+        @Override
+        public String scope() {
+            return "request.benchmark";
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dcp.benchmarks;
+
+import org.eclipse.edc.dcp.tests.extensions.MembershipCredentialEvaluationFunction;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the evaluation of a catalog request in which every offer is constrained by the membership credential: the
+ * function is evaluated once per offer, with a new policy context each time, for the same agent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MembershipCatalogBenchmark {
+
+    @Param({ "100", "1000" })
+    private int offers;
+
+    @Param({ "10" })
+    private int credentials;
+
+    private final MembershipCredentialEvaluationFunction<BenchmarkPolicyContext> function = MembershipCredentialEvaluationFunction.create();
+    private final Permission permission = Permission.Builder.newInstance().build();
+    private Map<String, Object> claims;
+
+    @Setup
+    public void setUp() {
+        claims = Map.of("vc", BenchmarkCredentials.credentials(credentials, 1));
+    }
+
+    @Benchmark
+    public int catalog() {
+        var participantAgent = new ParticipantAgent(claims, Map.of());
+        var granted = 0;
+        for (var i = 0; i < offers; i++) {
+            if (function.evaluate(Operator.EQ, "active", permission, new BenchmarkPolicyContext(participantAgent))) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dcp.benchmarks;
+
+import org.eclipse.edc.dcp.tests.extensions.MembershipCredentialEvaluationFunction;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single {@link MembershipCredentialEvaluationFunction#evaluate} for a new agent, i.e. the first policy
+ * evaluated in a request, which has to extract the membership from all the credentials of the {@code vc} claim.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MembershipCredentialEvaluationFunctionBenchmark {
+
+    @Param({ "1", "10", "100" })
+    private int credentials;
+
+    @Param({ "1", "10" })
+    private int subjectsPerCredential;
+
+    private final MembershipCredentialEvaluationFunction<BenchmarkPolicyContext> function = MembershipCredentialEvaluationFunction.create();
+    private final Permission permission = Permission.Builder.newInstance().build();
+    private Map<String, Object> claims;
+
+    @Setup
+    public void setUp() {
+        claims = Map.of("vc", BenchmarkCredentials.credentials(credentials, subjectsPerCredential));
+    }
+
+    @Benchmark
+    public boolean evaluate() {
+        // a new agent per request, as the runtime does
+        var participantAgent = new ParticipantAgent(claims, Map.of());
+        return function.evaluate(Operator.EQ, "active", permission, new BenchmarkPolicyContext(participantAgent));
+    }
+}
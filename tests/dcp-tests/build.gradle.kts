@@ -14,9 +14,16 @@
 
 plugins {
     `java-library`
+    `java-test-fixtures`
 }
 
 dependencies {
+    testFixturesImplementation(libs.edc.spi.controlplane)
+    testFixturesImplementation(libs.edc.spi.participant)
+    testFixturesImplementation(libs.edc.spi.policy.engine)
+    testFixturesImplementation(libs.edc.spi.policy.request.context)
+    testFixturesImplementation(libs.edc.spi.verifiablecredentials)
+
     testImplementation(libs.edc.junit)
     testImplementation(libs.edc.spi.dataplane)
     testImplementation(libs.edc.spi.did)
@@ -38,4 +45,10 @@ dependencies {
     testImplementation(testFixtures(libs.edc.sql.test.fixtures))
     testImplementation(testFixtures(libs.edc.ih.test.fixtures))
     testImplementation(testFixtures(project(":tests:fixtures")))
-}
\ No newline at end of file
+}
+
+tasks.test {
+    // forks of every test module reserve ports, container and database names in the same directory
+    systemProperty("edc.test.reservations.directory", rootProject.layout.buildDirectory.dir("reservations").get().asFile.absolutePath)
+    maxParallelForks = providers.gradleProperty("testForks").getOrElse("2").toInt()
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dcp.tests.issuance;
+
+import org.eclipse.edc.dcp.tests.issuance.fixtures.IssuanceTimingExtension;
+import org.eclipse.edc.identityhub.tests.fixtures.DefaultRuntimes;
+import org.eclipse.edc.identityhub.tests.fixtures.credentialservice.IdentityHub;
+import org.eclipse.edc.identityhub.tests.fixtures.credentialservice.IdentityHubApiClient;
+import org.eclipse.edc.identityhub.tests.fixtures.issuerservice.IssuerService;
+import org.eclipse.edc.junit.annotations.EndToEndTest;
+import org.eclipse.edc.junit.annotations.Runtime;
+import org.eclipse.edc.junit.extensions.ComponentRuntimeExtension;
+import org.eclipse.edc.junit.extensions.RuntimeExtension;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.eclipse.edc.tests.fixtures.Runtimes;
+import org.eclipse.edc.tests.fixtures.metrics.LoadReport;
+import org.eclipse.edc.tests.fixtures.metrics.LoadRun;
+import org.eclipse.edc.tests.fixtures.sql.PostgresqlTemplates;
+import org.eclipse.edc.tests.fixtures.sql.SharedPostgresqlEndToEndExtension;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.dcp.tests.transfer.fixtures.TestFunction.createParticipants;
+import static org.eclipse.edc.dcp.tests.transfer.fixtures.TestFunction.setupHolders;
+import static org.eclipse.edc.dcp.tests.transfer.fixtures.TestFunction.setupIssuer;
+
+/**
+ * Fires concurrent credential requests for an increasing number of holders against the issuer service, as happens
+ * when a new cohort of members onboards. For every number of holders it reports the requests accepted per second,
+ * the time to credential delivery and the time spent by the issuer in the attestation lookup and in the credential
+ * rule evaluation. Credential signing and storage are not exposed as extension points by the issuer service, so they
+ * are part of the delivery time along with the queueing in the issuance state machine.
+ * <p>
+ * Enabled with {@code EDC_TEST_ISSUANCE_THROUGHPUT=true}. The numbers of holders can be set with
+ * {@code EDC_TEST_ISSUANCE_HOLDERS}, a comma-separated list, and the maximum number of concurrent requests with
+ * {@code EDC_TEST_ISSUANCE_CONCURRENCY}.
+ */
+@EndToEndTest
+@EnabledIfEnvironmentVariable(named = "EDC_TEST_ISSUANCE_THROUGHPUT", matches = "true")
+public class CredentialIssuanceThroughputTest {
+
+    static final String IDENTITY_HUB = "holders_ih";
+    static final String REQUEST_PHASE = "request";
+    static final String DELIVERY_PHASE = "delivery";
+    static final int SETUP_PARALLELISM = 8;
+    static final IssuanceTimingExtension ISSUANCE_TIMINGS = new IssuanceTimingExtension("database", "expression");
+
+    @Order(0)
+    @RegisterExtension
+    static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = SharedPostgresqlEndToEndExtension.instance();
+
+    @Order(1)
+    @RegisterExtension
+    static final PostgresqlTemplates POSTGRESQL_TEMPLATES = new PostgresqlTemplates(POSTGRESQL_EXTENSION);
+
+    // records the schema of the databases once the runtimes have booted, before the tests add data to them
+    @Order(3)
+    @RegisterExtension
+    static final BeforeAllCallback BOOTSTRAPPED_SCHEMAS = POSTGRESQL_TEMPLATES.bootstrapped();
+
+    @Order(1)
+    @RegisterExtension
+    static final BeforeAllCallback CREATE_DATABASES = context -> {
+        POSTGRESQL_TEMPLATES.createDatabase(Runtimes.Issuer.ID, "issuer", PostgresqlTemplates::classpathFingerprint);
+        POSTGRESQL_TEMPLATES.createDatabase(IDENTITY_HUB, "identity-hub", PostgresqlTemplates::classpathFingerprint);
+    };
+
+    @Order(2)
+    @RegisterExtension
+    static final RuntimeExtension ISSUER_EXTENSION = ComponentRuntimeExtension.Builder.newInstance()
+            .name(Runtimes.Issuer.ID)
+            .modules(Runtimes.Issuer.MODULES)
+            .endpoints(DefaultRuntimes.Issuer.ENDPOINTS.build())
+            .configurationProvider(DefaultRuntimes.Issuer::config)
+            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(Runtimes.Issuer.ID))
+            .paramProvider(IssuerService.class, IssuerService::forContext)
+            .build()
+            .registerSystemExtension(ServiceExtension.class, ISSUANCE_TIMINGS);
+
+    @Order(2)
+    @RegisterExtension
+    static final RuntimeExtension IDENTITY_HUB_EXTENSION = ComponentRuntimeExtension.Builder.newInstance()
+            .name(IDENTITY_HUB)
+            .modules(Runtimes.IdentityHub.MODULES)
+            .endpoints(DefaultRuntimes.IdentityHub.ENDPOINTS.build())
+            .configurationProvider(DefaultRuntimes.IdentityHub::config)
+            .configurationProvider(() -> POSTGRESQL_EXTENSION.configFor(IDENTITY_HUB))
+            .configurationProvider(() -> ConfigFactory.fromMap(Map.of("edc.iam.credential.status.check.period", "0")))
+            .paramProvider(IdentityHub.class, IdentityHub::forContext)
+            .paramProvider(IdentityHubApiClient.class, IdentityHubApiClient::forContext)
+            .build();
+
+    @BeforeAll
+    static void setup(IssuerService issuer) {
+        setupIssuer(issuer, Runtimes.Issuer.ID, issuer.didFor(Runtimes.Issuer.ID));
+    }
+
+    @Test
+    void issuanceThroughput(IssuerService issuer,
+                            @Runtime(IDENTITY_HUB) IdentityHub identityHub,
+                            @Runtime(IDENTITY_HUB) IdentityHubApiClient apiClient,
+                            TestReporter reporter) {
+        var holderCounts = Arrays.stream(Objects.requireNonNullElse(System.getenv("EDC_TEST_ISSUANCE_HOLDERS"), "10,100,1000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        var maxConcurrency = Integer.parseInt(Objects.requireNonNullElse(System.getenv("EDC_TEST_ISSUANCE_CONCURRENCY"), "32"));
+        var issuerDid = issuer.didFor(Runtimes.Issuer.ID);
+
+        for (var holderCount : holderCounts) {
+            var holderIds = IntStream.range(0, holderCount)
+                    .mapToObj(i -> identityHub.didFor("holder-%d-%d".formatted(holderCount, i)))
+                    .toList();
+            setupHolders(issuer, Runtimes.Issuer.ID, holderIds, SETUP_PARALLELISM);
+            var participants = createParticipants(identityHub, holderIds, SETUP_PARALLELISM);
+
+            var name = "credential-issuance-" + holderCount;
+            var run = new LoadRun(Math.min(holderCount, maxConcurrency), holderCount, null);
+            var next = new AtomicInteger();
+            var lastAccepted = new AtomicLong();
+            var start = System.nanoTime();
+
+            ISSUANCE_TIMINGS.recordInto(run);
+            LoadReport report;
+            try {
+                report = run.run(name, phases -> {
+                    var holderId = holderIds.get(next.getAndIncrement());
+                    var apiKey = participants.get(holderId).apiKey();
+                    var requestStart = System.nanoTime();
+
+                    var holderPid = phases.time(REQUEST_PHASE, () -> apiClient.requestCredential(apiKey, holderId, issuerDid, "credential-id", "MembershipCredential"));
+                    lastAccepted.accumulateAndGet(System.nanoTime(), Math::max);
+
+                    identityHub.waitForCredentialIssuer(holderPid, holderId);
+                    phases.record(DELIVERY_PHASE, Duration.ofNanos(System.nanoTime() - requestStart));
+                });
+            } finally {
+                ISSUANCE_TIMINGS.recordInto(null);
+            }
+            var file = report.write();
+
+            var acceptancePeriod = Duration.ofNanos(lastAccepted.get() - start);
+            var acceptedPerSecond = acceptancePeriod.isZero() ? 0 : (holderCount - report.failed()) / (acceptancePeriod.toNanos() / 1_000_000_000.0);
+            reporter.publishEntry(name, "%d holders, %d concurrent: %.1f requests accepted/s, %.1f credentials delivered/s, delivery p50 %.1f ms p99 %.1f ms".formatted(
+                    holderCount, report.concurrency(), acceptedPerSecond, report.throughput(),
+                    report.phases().get(DELIVERY_PHASE).p50(), report.phases().get(DELIVERY_PHASE).p99()));
+            report.phases().forEach((phase, latencies) -> reporter.publishEntry(name + "-" + phase, latencies.toString()));
+            reporter.publishEntry(name + "-file", file.toAbsolutePath().toString());
+
+            assertThat(report.failed()).as(report.failures().toString()).isZero();
+        }
+    }
+}
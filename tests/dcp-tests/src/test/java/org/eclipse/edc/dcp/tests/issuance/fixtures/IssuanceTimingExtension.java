@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dcp.tests.issuance.fixtures;
+
+import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationSourceFactory;
+import org.eclipse.edc.issuerservice.spi.issuance.attestation.AttestationSourceFactoryRegistry;
+import org.eclipse.edc.issuerservice.spi.issuance.rule.CredentialRuleFactory;
+import org.eclipse.edc.issuerservice.spi.issuance.rule.CredentialRuleFactoryRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.tests.fixtures.metrics.LoadRun;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Extension for the issuer service runtime that times the attestation lookup and the credential rule evaluation of
+ * every issuance, recording them as phases of the current {@link LoadRun}.
+ * <p>
+ * The attestation sources and credential rules of the given types are replaced at start by timed decorators, so they
+ * must be registered by the runtime extensions at initialization.
+ */
+public class IssuanceTimingExtension implements ServiceExtension {
+
+    public static final String ATTESTATION_PHASE = "attestation";
+    public static final String RULES_PHASE = "rules";
+
+    private final String attestationType;
+    private final String ruleType;
+    private volatile LoadRun.Phases phases;
+
+    @Inject
+    private AttestationSourceFactoryRegistry attestationSourceFactoryRegistry;
+
+    @Inject
+    private CredentialRuleFactoryRegistry credentialRuleFactoryRegistry;
+
+    public IssuanceTimingExtension(String attestationType, String ruleType) {
+        this.attestationType = attestationType;
+        this.ruleType = ruleType;
+    }
+
+    @Override
+    public void start() {
+        var attestationSourceFactory = Objects.requireNonNull(attestationSourceFactoryRegistry.resolveFactory(attestationType), attestationType);
+        attestationSourceFactoryRegistry.registerFactory(attestationType, timed(attestationSourceFactory));
+
+        var credentialRuleFactory = Objects.requireNonNull(credentialRuleFactoryRegistry.resolveFactory(ruleType), ruleType);
+        credentialRuleFactoryRegistry.registerFactory(ruleType, timed(credentialRuleFactory));
+    }
+
+    /**
+     * Sets the run the timings are recorded into, or null to stop recording.
+     *
+     * @param run the load run
+     */
+    public void recordInto(LoadRun run) {
+        phases = run == null ? null : run.phases();
+    }
+
+    private AttestationSourceFactory timed(AttestationSourceFactory factory) {
+        return definition -> {
+            var source = factory.createSource(definition);
+            return context -> time(ATTESTATION_PHASE, () -> source.execute(context));
+        };
+    }
+
+    private CredentialRuleFactory timed(CredentialRuleFactory factory) {
+        return definition -> {
+            var rule = factory.createRule(definition);
+            return context -> time(RULES_PHASE, () -> rule.evaluate(context));
+        };
+    }
+
+    private <T> T time(String phase, Supplier<T> task) {
+        var start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            var current = phases;
+            if (current != null) {
+                current.record(phase, Duration.ofNanos(System.nanoTime() - start));
+            }
+        }
+    }
+}
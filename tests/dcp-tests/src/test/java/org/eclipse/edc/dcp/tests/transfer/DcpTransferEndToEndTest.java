@@ -33,6 +33,9 @@ import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
 import org.eclipse.edc.tests.fixtures.Runtimes;
 import org.eclipse.edc.tests.fixtures.extension.cp.ControlPlaneApi;
+import org.eclipse.edc.tests.fixtures.metrics.BootTimelines;
+import org.eclipse.edc.tests.fixtures.sql.PostgresqlTemplates;
+import org.eclipse.edc.tests.fixtures.sql.SharedPostgresqlEndToEndExtension;
 import org.eclipse.edc.tests.fixtures.transfer.HttpProxyDataPlaneExtension;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Order;
@@ -40,6 +43,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -49,7 +53,7 @@ import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.connector.controlplane.test.system.utils.PolicyFixtures.noConstraintPolicy;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
 import static org.eclipse.edc.dcp.tests.transfer.fixtures.TestFunction.httpSourceDataAddress;
-import static org.eclipse.edc.dcp.tests.transfer.fixtures.TestFunction.setupHolder;
+import static org.eclipse.edc.dcp.tests.transfer.fixtures.TestFunction.setupHolders;
 import static org.eclipse.edc.dcp.tests.transfer.fixtures.TestFunction.setupIssuer;
 import static org.eclipse.edc.dcp.tests.transfer.fixtures.TestFunction.setupParticipant;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
@@ -65,9 +69,14 @@ public class DcpTransferEndToEndTest {
     public static final String PROVIDER_CP = "provider-cp";
     public static final String PROVIDER_DP = "provider-dp";
 
+    // registered first, to see the console output of the in-process runtimes from their boot
     @Order(0)
     @RegisterExtension
-    static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = new PostgresqlEndToEndExtension();
+    static final BootTimelines BOOT_TIMELINES = new BootTimelines();
+
+    @Order(0)
+    @RegisterExtension
+    static final PostgresqlEndToEndExtension POSTGRESQL_EXTENSION = SharedPostgresqlEndToEndExtension.instance();
 
     @Order(2)
     @RegisterExtension
@@ -80,14 +89,24 @@ public class DcpTransferEndToEndTest {
             .paramProvider(IssuerService.class, IssuerService::forContext)
             .build();
 
+    @Order(1)
+    @RegisterExtension
+    static final PostgresqlTemplates POSTGRESQL_TEMPLATES = new PostgresqlTemplates(POSTGRESQL_EXTENSION);
+
+    // records the schema of the databases once the runtimes have booted, before the tests add data to them
+    @Order(5)
+    @RegisterExtension
+    static final BeforeAllCallback BOOTSTRAPPED_SCHEMAS = POSTGRESQL_TEMPLATES.bootstrapped();
+
     @Order(1)
     @RegisterExtension
     static final BeforeAllCallback POSTGRES_CONTAINER_STARTER = context -> {
-        POSTGRESQL_EXTENSION.createDatabase(Runtimes.Issuer.ID);
-        POSTGRESQL_EXTENSION.createDatabase(CONSUMER_IH);
-        POSTGRESQL_EXTENSION.createDatabase(PROVIDER_IH);
-        POSTGRESQL_EXTENSION.createDatabase(CONSUMER_ID);
-        POSTGRESQL_EXTENSION.createDatabase(PROVIDER_ID);
+        POSTGRESQL_TEMPLATES.createDatabase(Runtimes.Issuer.ID, "issuer", PostgresqlTemplates::classpathFingerprint);
+        POSTGRESQL_TEMPLATES.createDatabase(CONSUMER_IH, "identity-hub", PostgresqlTemplates::classpathFingerprint);
+        POSTGRESQL_TEMPLATES.createDatabase(PROVIDER_IH, "identity-hub", PostgresqlTemplates::classpathFingerprint);
+        // the provider database comes first, so that the template also has the tables of its data plane
+        POSTGRESQL_TEMPLATES.createDatabase(PROVIDER_ID, "snapshot-dcp-connector", PostgresqlTemplates::classpathFingerprint);
+        POSTGRESQL_TEMPLATES.createDatabase(CONSUMER_ID, "snapshot-dcp-connector", PostgresqlTemplates::classpathFingerprint);
     };
 
     static final Endpoints CONSUMER_IH_ENDPOINTS = DefaultRuntimes.IdentityHub.ENDPOINTS.build();
@@ -187,8 +206,7 @@ public class DcpTransferEndToEndTest {
 
         setupIssuer(issuer, Runtimes.Issuer.ID, issuerDid);
 
-        setupHolder(issuer, Runtimes.Issuer.ID, consumerHolderDid);
-        setupHolder(issuer, Runtimes.Issuer.ID, providerHolderDid);
+        setupHolders(issuer, Runtimes.Issuer.ID, List.of(consumerHolderDid, providerHolderDid), 1);
 
         var providerResponse = setupParticipant(providerIdentityHub, providerCtx, issuerDid, providerHolderDid);
         var consumerResponse = setupParticipant(consumerIdentityHub, consumerCtx, issuerDid, consumerHolderDid);
@@ -36,13 +36,20 @@ import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 import static org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat.VC1_0_JWT;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 
 public class TestFunction {
 
+    private static final int BATCH_SIZE = 500;
 
     public static void setupIssuer(IssuerService issuerService, String participantContextId, String did) {
         issuerService.createParticipant(participantContextId, did, did + "#key");
@@ -87,6 +94,8 @@ public class TestFunction {
         tx.execute(() -> {
             try (var connection = dataSource.getConnection()) {
                 executor.execute(connection, "CREATE TABLE attestations (holderId VARCHAR(255), member_name VARCHAR(255), membership_start_date timestamp, member_signed_document BOOLEAN)");
+                // the database attestation source looks up the holder row on every issuance
+                executor.execute(connection, "CREATE INDEX attestations_holder_id_idx ON attestations (holderId)");
             } catch (SQLException e) {
                 throw new RuntimeException(e);
             }
@@ -95,31 +104,61 @@ public class TestFunction {
     }
 
     public static void setupHolder(IssuerService issuerService, String participantContextId, String holderId) {
+        setupHolders(issuerService, participantContextId, List.of(holderId), 1);
+    }
 
-        issuerService.createHolder(participantContextId, holderId, holderId, holderId);
-
-
+    /**
+     * Creates the holders and their attestations in batches of {@link #BATCH_SIZE}: the holders of a batch are created
+     * in a single transaction, and their attestations are inserted with a single JDBC batch. Batches run in parallel.
+     *
+     * @param issuerService        the issuer service
+     * @param participantContextId the issuer participant context id
+     * @param holderIds            the holder ids, also used as holder DID and name
+     * @param parallelism          the number of batches created concurrently
+     */
+    public static void setupHolders(IssuerService issuerService, String participantContextId, List<String> holderIds, int parallelism) {
         var dataSourceRegistry = issuerService.getService(DataSourceRegistry.class);
         var tx = issuerService.getService(TransactionContext.class);
-        var executor = issuerService.getService(QueryExecutor.class);
-
-        tx.execute(() -> {
-            var dataSource = dataSourceRegistry.resolve("default");
 
-            try (var connection = dataSource.getConnection()) {
-                executor.execute(connection, "INSERT INTO attestations (holderId, member_name, membership_start_date, member_signed_document) VALUES (?, ?, now(), true)", holderId, holderId);
-            } catch (SQLException e) {
-                throw new RuntimeException(e);
-            }
+        inParallel(partition(holderIds), parallelism, batch -> {
+            tx.execute(() -> batch.forEach(holderId -> issuerService.createHolder(participantContextId, holderId, holderId, holderId)));
+
+            tx.execute(() -> {
+                var dataSource = dataSourceRegistry.resolve("default");
+                try (var connection = dataSource.getConnection();
+                     var statement = connection.prepareStatement("INSERT INTO attestations (holderId, member_name, membership_start_date, member_signed_document) VALUES (?, ?, now(), true)")) {
+                    for (var holderId : batch) {
+                        statement.setString(1, holderId);
+                        statement.setString(2, holderId);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            });
         });
     }
 
     public static CreateParticipantContextResponse setupParticipant(IdentityHub identityHub, ComponentRuntimeContext ctx, String issuerDid, String holderId) {
+        return setupParticipants(identityHub, ctx, issuerDid, List.of(holderId), 1).get(holderId);
+    }
 
-        var response = identityHub.createParticipant(holderId, holderId, holderId + "#key");
-
+    /**
+     * Creates the participant contexts of the holders concurrently, and configures the runtime to trust the issuer.
+     *
+     * @param identityHub the identity hub
+     * @param ctx         the context of the runtime that verifies the holders credentials
+     * @param issuerDid   the issuer DID
+     * @param holderIds   the holder ids, also used as participant context id and DID
+     * @param parallelism the number of participant contexts created concurrently
+     * @return the creation responses by holder id
+     */
+    public static Map<String, CreateParticipantContextResponse> setupParticipants(IdentityHub identityHub, ComponentRuntimeContext ctx, String issuerDid, List<String> holderIds, int parallelism) {
         var vault = ctx.getService(Vault.class);
-        vault.storeSecret(holderId, holderId + "-alias", response.clientSecret());
+        var responses = createParticipants(identityHub, holderIds, parallelism);
+
+        responses.forEach((holderId, response) -> vault.storeSecret(holderId, holderId + "-alias", response.clientSecret()));
 
         var revocationRegistry = ctx.getService(RevocationServiceRegistry.class);
 
@@ -138,7 +177,21 @@ public class TestFunction {
         ctx.getService(TrustedIssuerRegistry.class).register(new Issuer(issuerDid, Map.of()), "*");
 
 
-        return response;
+        return responses;
+    }
+
+    /**
+     * Creates the participant contexts of the holders in their Identity Hub concurrently.
+     *
+     * @param identityHub the identity hub
+     * @param holderIds   the holder ids, also used as participant context id and DID
+     * @param parallelism the number of participant contexts created concurrently
+     * @return the creation responses by holder id
+     */
+    public static Map<String, CreateParticipantContextResponse> createParticipants(IdentityHub identityHub, List<String> holderIds, int parallelism) {
+        var responses = new ConcurrentHashMap<String, CreateParticipantContextResponse>();
+        inParallel(holderIds, parallelism, holderId -> responses.put(holderId, identityHub.createParticipant(holderId, holderId, holderId + "#key")));
+        return responses;
     }
 
     public static @NotNull Map<String, Object> httpSourceDataAddress() {
@@ -149,4 +202,28 @@ public class TestFunction {
                 EDC_NAMESPACE + "proxyQueryParams", "true"
         );
     }
+
+    private static List<List<String>> partition(List<String> ids) {
+        var batches = new ArrayList<List<String>>();
+        for (var from = 0; from < ids.size(); from += BATCH_SIZE) {
+            batches.add(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+
+    private static <T> void inParallel(List<T> items, int parallelism, Consumer<T> task) {
+        if (parallelism <= 1) {
+            items.forEach(task);
+            return;
+        }
+        var executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            var futures = items.stream()
+                    .map(item -> CompletableFuture.runAsync(() -> task.accept(item), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
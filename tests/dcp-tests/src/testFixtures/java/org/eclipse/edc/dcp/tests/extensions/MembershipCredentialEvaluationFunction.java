@@ -25,6 +25,7 @@ import org.eclipse.edc.spi.result.Result;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 public class MembershipCredentialEvaluationFunction<C extends ParticipantAgentPolicyContext> implements AtomicConstraintRuleFunction<Permission, C> {
     public static final String MEMBERSHIP_CONSTRAINT_KEY = "MembershipCredential";
@@ -33,6 +34,13 @@ public class MembershipCredentialEvaluationFunction<C extends ParticipantAgentPo
     private static final String MEMBERSHIP_CLAIM = "membership";
     private static final String SINCE_CLAIM = "since";
     private static final String ACTIVE = "active";
+    private static final long NO_MEMBERSHIP = Long.MAX_VALUE;
+
+    /**
+     * Earliest start of membership per agent, so that the credentials of an agent are parsed once for all the
+     * policies evaluated in a request (e.g. every offer of a catalog). Entries go away with the agent.
+     */
+    private final Map<ParticipantAgent, Long> membershipStarts = new WeakHashMap<>();
 
     private MembershipCredentialEvaluationFunction() {
     }
@@ -42,7 +50,6 @@ public class MembershipCredentialEvaluationFunction<C extends ParticipantAgentPo
         };
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public boolean evaluate(Operator operator, Object rightOperand, Permission permission, C policyContext) {
         if (!operator.equals(Operator.EQ)) {
@@ -59,21 +66,46 @@ public class MembershipCredentialEvaluationFunction<C extends ParticipantAgentPo
             policyContext.reportProblem("No ParticipantAgent found on context.");
             return false;
         }
-        var credentialResult = getCredentialList(pa);
-        if (credentialResult.failed()) {
-            policyContext.reportProblem(credentialResult.getFailureDetail());
-            return false;
+
+        Long membershipStart;
+        synchronized (membershipStarts) {
+            membershipStart = membershipStarts.get(pa);
+        }
+        if (membershipStart == null) {
+            var credentialResult = getCredentialList(pa);
+            if (credentialResult.failed()) {
+                policyContext.reportProblem(credentialResult.getFailureDetail());
+                return false;
+            }
+            membershipStart = earliestMembershipStart(credentialResult.getContent());
+            synchronized (membershipStarts) {
+                membershipStarts.put(pa, membershipStart);
+            }
         }
 
-        return credentialResult.getContent()
-                .stream()
-                .filter(vc -> vc.getType().stream().anyMatch(t -> t.endsWith(MEMBERSHIP_CONSTRAINT_KEY)))
-                .flatMap(vc -> vc.getCredentialSubject().stream().filter(cs -> cs.getClaims().containsKey(MEMBERSHIP_CLAIM)))
-                .anyMatch(credential -> {
-                    var membershipClaim = (Map<String, ?>) credential.getClaim(MVD_NAMESPACE, MEMBERSHIP_CLAIM);
-                    var membershipStartDate = Instant.parse(membershipClaim.get(SINCE_CLAIM).toString());
-                    return membershipStartDate.isBefore(Instant.now());
-                });
+        return membershipStart < System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the earliest start of membership among the membership claims of the credentials, in epoch milliseconds,
+     * or {@link #NO_MEMBERSHIP} if there are none.
+     */
+    @SuppressWarnings("unchecked")
+    private Long earliestMembershipStart(List<VerifiableCredential> credentials) {
+        var earliest = NO_MEMBERSHIP;
+        for (var vc : credentials) {
+            if (vc.getType().stream().noneMatch(t -> t.endsWith(MEMBERSHIP_CONSTRAINT_KEY))) {
+                continue;
+            }
+            for (var subject : vc.getCredentialSubject()) {
+                if (subject.getClaims().containsKey(MEMBERSHIP_CLAIM)) {
+                    var membershipClaim = (Map<String, ?>) subject.getClaim(MVD_NAMESPACE, MEMBERSHIP_CLAIM);
+                    var since = Instant.parse(membershipClaim.get(SINCE_CLAIM).toString()).toEpochMilli();
+                    earliest = Math.min(earliest, since);
+                }
+            }
+        }
+        return earliest;
     }
 
     protected Result<List<VerifiableCredential>> getCredentialList(ParticipantAgent agent) {
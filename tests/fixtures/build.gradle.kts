@@ -21,6 +21,12 @@ dependencies {
     testFixturesImplementation(libs.edc.junit)
     testFixturesImplementation(libs.restAssured)
     testFixturesImplementation(libs.awaitility)
+    testFixturesImplementation(libs.jakarta.json.api)
+    testFixturesApi(libs.hdrHistogram)
+    // the clock only, without the extension of the stable images, which would be loaded by the in-process runtimes
+    testFixturesApi(project(":runtimes:common:virtual-clock-lib"))
+    // the parser of the stable boot timeline monitor, without its monitor extension
+    testFixturesImplementation(project(":runtimes:common:boot-timeline-lib"))
     testFixturesImplementation(libs.edc.spi.dataplane)
     testFixturesImplementation(testFixtures(libs.edc.api.management.test.fixtures))
     testFixturesImplementation(testFixtures(libs.edc.sql.test.fixtures))
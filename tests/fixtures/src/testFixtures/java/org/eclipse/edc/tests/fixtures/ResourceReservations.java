@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Hands out ports, container names and database names that do not collide with the ones of other test JVMs, so that
+ * several stacks of runtimes can run side by side, e.g. in parallel Gradle test forks.
+ * <p>
+ * Every reservation is an exclusive lock on a file in a directory shared by the JVMs, set with the
+ * {@link #DIRECTORY_PROPERTY} system property (defaults to {@code build/reservations}). The locks are held until the
+ * JVM exits, and are released by the operating system even when it crashes, so nothing has to be cleaned up.
+ * <p>
+ * Names are made unique with the slot of the JVM: the lowest slot number not held by another JVM. The first JVM gets
+ * slot 0 and keeps the names unchanged.
+ */
+public final class ResourceReservations {
+
+    public static final String DIRECTORY_PROPERTY = "edc.test.reservations.directory";
+
+    private static final int LOWEST_PORT = 10_000;
+    private static final int HIGHEST_PORT = 32_000;
+    private static final int MAX_PORT_ATTEMPTS = 1000;
+    private static final int MAX_SLOTS = 256;
+    private static final Map<String, FileLock> HELD = new HashMap<>();
+
+    private ResourceReservations() {
+    }
+
+    /**
+     * Reserves a port that is free on localhost and that no other JVM has reserved.
+     *
+     * @return the port
+     */
+    public static int port() {
+        for (var attempt = 0; attempt < MAX_PORT_ATTEMPTS; attempt++) {
+            var port = ThreadLocalRandom.current().nextInt(LOWEST_PORT, HIGHEST_PORT);
+            if (reserve("port-" + port)) {
+                if (isFree(port)) {
+                    return port;
+                }
+                release("port-" + port);
+            }
+        }
+        throw new IllegalStateException("No free port found in [%d, %d) after %d attempts".formatted(LOWEST_PORT, HIGHEST_PORT, MAX_PORT_ATTEMPTS));
+    }
+
+    /**
+     * The name of a container, unique across the JVMs.
+     *
+     * @param name the name the container has when it is the only one
+     * @return the container name
+     */
+    public static String containerName(String name) {
+        return Slot.NUMBER == 0 ? name : name + "-" + Slot.NUMBER;
+    }
+
+    /**
+     * The name of a database, unique across the JVMs even when they share the database server.
+     *
+     * @param name the name the database has when it is the only one
+     * @return the database name
+     */
+    public static String database(String name) {
+        return Slot.NUMBER == 0 ? name : name + "_" + Slot.NUMBER;
+    }
+
+    private static synchronized boolean reserve(String key) {
+        if (HELD.containsKey(key)) {
+            return false;
+        }
+        try {
+            var directory = directory();
+            Files.createDirectories(directory);
+            var channel = FileChannel.open(directory.resolve(key + ".lock"), CREATE, WRITE);
+            var lock = channel.tryLock();
+            if (lock == null) {
+                channel.close();
+                return false;
+            }
+            HELD.put(key, lock);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static synchronized void release(String key) {
+        var lock = HELD.remove(key);
+        try {
+            lock.channel().close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isFree(int port) {
+        // the containers run in host network mode and listen on all the interfaces
+        try (var socket = new ServerSocket(port)) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Path directory() {
+        return Path.of(System.getProperty(DIRECTORY_PROPERTY, "build/reservations"));
+    }
+
+    /**
+     * Slot of the JVM, reserved on first use.
+     */
+    private static final class Slot {
+
+        static final int NUMBER = reserveSlot();
+
+        private static int reserveSlot() {
+            for (var slot = 0; slot < MAX_SLOTS; slot++) {
+                if (reserve("slot-" + slot)) {
+                    return slot;
+                }
+            }
+            throw new IllegalStateException("All the %d slots are held by other JVMs".formatted(MAX_SLOTS));
+        }
+    }
+}
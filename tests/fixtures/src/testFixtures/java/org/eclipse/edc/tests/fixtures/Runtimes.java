@@ -22,7 +22,7 @@ import java.net.URI;
 import java.util.Map;
 import java.util.Objects;
 
-import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.eclipse.edc.tests.fixtures.ResourceReservations.port;
 import static org.eclipse.edc.web.spi.configuration.ApiContext.CONTROL;
 import static org.eclipse.edc.web.spi.configuration.ApiContext.MANAGEMENT;
 import static org.eclipse.edc.web.spi.configuration.ApiContext.PROTOCOL;
@@ -33,7 +33,7 @@ public class Runtimes {
     public interface Issuer {
         String ID = "issuer";
         String[] MODULES = new String[]{
-                ":runtimes:snapshot:issuer-snapshot"
+                ":runtimes:snapshot:issuerservice-snapshot"
         };
 
     }
@@ -69,7 +69,7 @@ public class Runtimes {
         };
 
         Endpoints.Builder ENDPOINTS = Endpoints.Builder.newInstance()
-                .endpoint(CONTROL, () -> URI.create("http://localhost:" + getFreePort() + "/control"));
+                .endpoint(CONTROL, () -> URI.create("http://localhost:" + port() + "/control"));
 
         static Config config() {
             return ConfigFactory.fromMap(Map.of(
@@ -91,9 +91,9 @@ public class Runtimes {
         };
 
         Endpoints.Builder ENDPOINTS = Endpoints.Builder.newInstance()
-                .endpoint(MANAGEMENT, () -> URI.create("http://localhost:" + getFreePort() + "/management"))
-                .endpoint(CONTROL, () -> URI.create("http://localhost:" + getFreePort() + "/control"))
-                .endpoint(PROTOCOL, () -> URI.create("http://localhost:" + getFreePort() + "/protocol"));
+                .endpoint(MANAGEMENT, () -> URI.create("http://localhost:" + port() + "/management"))
+                .endpoint(CONTROL, () -> URI.create("http://localhost:" + port() + "/control"))
+                .endpoint(PROTOCOL, () -> URI.create("http://localhost:" + port() + "/protocol"));
 
 
         static Config config(String participantId) {
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.clock;
+
+import org.eclipse.edc.compatibility.tests.clock.VirtualClock;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Moves the clock of one or more runtimes forward, so that expiries and TTLs are reached without waiting for them.
+ * In-process runtimes are controlled through the {@link VirtualClock} given to their {@link VirtualClockExtension},
+ * with {@code clock::advance}, the stable images through the control endpoint of their own virtual clock extension.
+ */
+public interface ClockControl {
+
+    /**
+     * Controls the clock of a runtime that is not running in-process.
+     *
+     * @param port the port of the clock control endpoint, configured with {@code testing.edc.clock.port}
+     * @return the control
+     */
+    static ClockControl remote(int port) {
+        return new RemoteClockControl(URI.create("http://localhost:%d/clock".formatted(port)));
+    }
+
+    /**
+     * Controls several clocks together, so that the runtimes keep agreeing on the time.
+     *
+     * @param clocks the clocks
+     * @return the control
+     */
+    static ClockControl all(ClockControl... clocks) {
+        var all = List.of(clocks);
+        return duration -> all.stream().map(clock -> clock.advance(duration)).max(Comparator.naturalOrder()).orElse(Duration.ZERO);
+    }
+
+    /**
+     * Moves the clock forward. Clocks never go backward.
+     *
+     * @param duration the duration to advance by, not negative
+     * @return the offset of the clock from the real time after the advance; the largest one when several clocks are
+     *         controlled together
+     */
+    Duration advance(Duration duration);
+}
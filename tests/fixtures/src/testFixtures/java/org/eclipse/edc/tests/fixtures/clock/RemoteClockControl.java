@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.clock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Advances a clock through the control endpoint of the virtual clock extension baked into the stable images.
+ */
+final class RemoteClockControl implements ClockControl {
+
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final URI endpoint;
+
+    RemoteClockControl(URI endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public Duration advance(Duration duration) {
+        var request = HttpRequest.newBuilder(URI.create(endpoint + "/advance?by=" + duration))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        try {
+            var response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Advancing the clock at %s failed: %d %s".formatted(endpoint, response.statusCode(), response.body()));
+            }
+            return Duration.parse(mapper.readTree(response.body()).path("offset").asText());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
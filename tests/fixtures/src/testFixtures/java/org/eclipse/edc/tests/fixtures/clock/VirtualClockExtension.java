@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.clock;
+
+import org.eclipse.edc.compatibility.tests.clock.VirtualClock;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.system.ServiceExtension;
+
+import java.time.Clock;
+
+/**
+ * Provides a {@link VirtualClock} in place of the system clock of an in-process runtime. The clock is controlled
+ * directly by the test, several runtimes can share it.
+ */
+public class VirtualClockExtension implements ServiceExtension {
+
+    private final VirtualClock clock;
+
+    public VirtualClockExtension(VirtualClock clock) {
+        this.clock = clock;
+    }
+
+    @Provider
+    public Clock clock() {
+        return clock;
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.extension.cp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * The non-blocking counterpart of a {@link ControlPlaneApi}, obtained with {@link ControlPlaneApi#async()}. Every call
+ * returns a future and no thread is held while a request is in flight or while the runtime is polled, so a single
+ * client can keep thousands of negotiations and transfers going. The requests go through the streaming client of the
+ * participant transport.
+ * <p>
+ * The futures complete on the threads of the HTTP client or of the common pool: the stages composed on them must not
+ * block.
+ */
+public class AsyncControlPlaneApi {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Duration EVENT_FALLBACK_POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration EVENT_CONFIRMATION_INTERVAL = Duration.ofMillis(50);
+
+    private final URI managementUrl;
+    private final Map<String, String> headers;
+    private final String protocol;
+    private final Duration timeout;
+    private final TransferProcessEvents transferEvents;
+    private final HttpClient client;
+
+    AsyncControlPlaneApi(URI managementUrl, Map<String, String> headers, String protocol, Duration timeout,
+                         TransferProcessEvents transferEvents, HttpClient client) {
+        this.managementUrl = managementUrl;
+        this.headers = headers;
+        this.protocol = protocol;
+        this.timeout = timeout;
+        this.transferEvents = transferEvents;
+        this.client = client;
+    }
+
+    /**
+     * Negotiates, starts an HTTP pull transfer and pulls the data of an asset: the whole cycle as a single pipeline.
+     *
+     * @param assetId     the asset id
+     * @param provider    the provider
+     * @param queryParams query parameters of the pull
+     * @return the number of bytes pulled
+     */
+    public CompletableFuture<Long> pullAsset(String assetId, ControlPlaneApi provider, Map<String, String> queryParams) {
+        return negotiate(assetId, provider)
+                .thenCompose(agreementId -> startTransfer(agreementId, provider, "HttpData-PULL"))
+                .thenCompose(transferProcessId -> awaitTransferState(transferProcessId, TransferProcessStates.STARTED)
+                        .thenCompose(v -> getEdr(transferProcessId)))
+                .thenCompose(edr -> pullData(edr, queryParams));
+    }
+
+    /**
+     * Requests the offer of an asset and negotiates a contract for it.
+     *
+     * @param assetId  the asset id
+     * @param provider the provider
+     * @return the contract agreement id, once the negotiation is finalized
+     */
+    public CompletableFuture<String> negotiate(String assetId, ControlPlaneApi provider) {
+        var datasetRequest = MAPPER.createObjectNode()
+                .put("@type", "DatasetRequest")
+                .put("@id", assetId)
+                .put("counterPartyId", provider.getId())
+                .put("counterPartyAddress", provider.getProtocolUrl())
+                .put("protocol", protocol);
+        datasetRequest.set("@context", context());
+
+        return send(post("/v3/catalog/dataset/request", datasetRequest))
+                .thenApply(this::body)
+                .thenApply(dataset -> contractRequest(dataset, assetId, provider))
+                .thenCompose(contractRequest -> send(post("/v3/contractnegotiations", contractRequest)))
+                .thenApply(response -> body(response).path("@id").asText())
+                .thenCompose(negotiationId -> this.<String>poll("Contract negotiation %s was not finalized".formatted(negotiationId),
+                        () -> send(get("/v3/contractnegotiations/" + negotiationId)).thenApply(response -> {
+                            var negotiation = body(response);
+                            var state = negotiation.path("state").asText();
+                            if ("TERMINATED".equals(state)) {
+                                throw new IllegalStateException("Contract negotiation %s terminated: %s".formatted(negotiationId, negotiation.path("errorDetail").asText()));
+                            }
+                            return "FINALIZED".equals(state) ? Optional.of(negotiation.path("contractAgreementId").asText()) : Optional.empty();
+                        }),
+                        () -> delay(POLL_INTERVAL)));
+    }
+
+    /**
+     * Requests a transfer on a contract agreement.
+     *
+     * @param agreementId  the contract agreement id
+     * @param provider     the provider
+     * @param transferType the transfer type, e.g. {@code HttpData-PULL}
+     * @return the transfer process id
+     */
+    public CompletableFuture<String> startTransfer(String agreementId, ControlPlaneApi provider, String transferType) {
+        var transferRequest = MAPPER.createObjectNode()
+                .put("@type", "TransferRequest")
+                .put("contractId", agreementId)
+                .put("counterPartyAddress", provider.getProtocolUrl())
+                .put("protocol", protocol)
+                .put("transferType", transferType);
+        transferRequest.set("@context", context());
+
+        return send(post("/v3/transferprocesses", transferRequest))
+                .thenApply(response -> body(response).path("@id").asText());
+    }
+
+    /**
+     * Waits for the transfer process to reach the state, in the same way as
+     * {@link ControlPlaneApi#awaitTransferToBeInState(String, TransferProcessStates)}: the transfer process events
+     * wake the wait up when the runtime notifies them, the management API is polled otherwise.
+     *
+     * @param transferProcessId the transfer process id
+     * @param state             the expected state
+     * @return a future that completes when the state is reached
+     */
+    public CompletableFuture<Void> awaitTransferState(String transferProcessId, TransferProcessStates state) {
+        var event = transferEvents == null ? null : transferEvents.awaitState(transferProcessId, state.name());
+        Supplier<CompletableFuture<?>> wakeUp = () -> {
+            if (event == null) {
+                return delay(POLL_INTERVAL);
+            }
+            // events may be published before the state change is committed, so the state is confirmed afterward
+            return event.isDone() ? delay(EVENT_CONFIRMATION_INTERVAL) : event.copy().completeOnTimeout(null, EVENT_FALLBACK_POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        };
+
+        return wakeUp.get()
+                .thenCompose(v -> this.<String>poll("Transfer process %s did not reach state %s".formatted(transferProcessId, state),
+                        () -> send(get("/v3/transferprocesses/%s/state".formatted(transferProcessId))).thenApply(response -> {
+                            var current = body(response).path("state").asText();
+                            if (TransferProcessStates.TERMINATED.name().equals(current) && state != TransferProcessStates.TERMINATED) {
+                                throw new IllegalStateException("Transfer process %s terminated while waiting for state %s".formatted(transferProcessId, state));
+                            }
+                            return state.name().equals(current) ? Optional.of(current) : Optional.empty();
+                        }),
+                        wakeUp))
+                .<Void>thenApply(current -> null)
+                .whenComplete((v, error) -> {
+                    if (event != null) {
+                        transferEvents.cancel(transferProcessId, event);
+                    }
+                });
+    }
+
+    /**
+     * Gets the EDR of a transfer process from the EDR cache, waiting for it to be cached.
+     *
+     * @param transferProcessId the transfer process id
+     * @return the EDR
+     */
+    public CompletableFuture<DataAddress> getEdr(String transferProcessId) {
+        return this.<DataAddress>poll("The EDR of transfer process %s was not cached".formatted(transferProcessId),
+                () -> send(get("/v3/edrs/%s/dataaddress".formatted(transferProcessId))).thenApply(response -> {
+                    if (response.statusCode() == 404) {
+                        return Optional.<DataAddress>empty();
+                    }
+                    var builder = DataAddress.Builder.newInstance();
+                    body(response).properties().forEach(field -> builder.property(field.getKey(),
+                            field.getValue().isValueNode() ? field.getValue().asText() : field.getValue().toString()));
+                    return Optional.of(builder.build());
+                }),
+                () -> delay(POLL_INTERVAL));
+    }
+
+    /**
+     * Pulls data from provider using EDR, counting the bytes of the body as they are received without buffering it.
+     *
+     * @param edr         endpoint data reference
+     * @param queryParams query parameters
+     * @return the number of bytes received
+     */
+    public CompletableFuture<Long> pullData(DataAddress edr, Map<String, String> queryParams) {
+        var query = queryParams.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), UTF_8) + "=" + URLEncoder.encode(e.getValue(), UTF_8))
+                .collect(Collectors.joining("&"));
+        var request = HttpRequest.newBuilder(URI.create(edr.getStringProperty("endpoint") + "?" + query))
+                .header("Authorization", edr.getStringProperty("authorization"))
+                .GET()
+                .build();
+
+        var received = new LongAdder();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArrayConsumer(chunk -> chunk.ifPresent(bytes -> received.add(bytes.length))))
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("GET %s: %d".formatted(response.request().uri().getPath(), response.statusCode()));
+                    }
+                    return received.sum();
+                });
+    }
+
+    /**
+     * Repeats an attempt until it yields a result, waking up between the attempts when the future returned by
+     * {@code wakeUp} completes. Fails when the participant timeout is exceeded.
+     */
+    private <T> CompletableFuture<T> poll(String failure, Supplier<CompletableFuture<Optional<T>>> attempt, Supplier<CompletableFuture<?>> wakeUp) {
+        return poll(failure, attempt, wakeUp, System.nanoTime() + timeout.toNanos());
+    }
+
+    private <T> CompletableFuture<T> poll(String failure, Supplier<CompletableFuture<Optional<T>>> attempt, Supplier<CompletableFuture<?>> wakeUp, long deadline) {
+        return attempt.get().thenCompose(result -> {
+            if (result.isPresent()) {
+                return CompletableFuture.completedFuture(result.get());
+            }
+            if (System.nanoTime() > deadline) {
+                return CompletableFuture.failedFuture(new AssertionError("%s within %s".formatted(failure, timeout)));
+            }
+            return wakeUp.get().thenCompose(v -> poll(failure, attempt, wakeUp, deadline));
+        });
+    }
+
+    private CompletableFuture<Void> delay(Duration delay) {
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * The contract request for the offer of a dataset, with the context of the dataset response so that its compacted
+     * terms keep their meaning.
+     */
+    private ObjectNode contractRequest(JsonNode dataset, String assetId, ControlPlaneApi provider) {
+        var policies = dataset.path("odrl:hasPolicy");
+        if (policies.isMissingNode() || policies.isEmpty()) {
+            throw new IllegalStateException("Asset %s is not offered by %s".formatted(assetId, provider.getId()));
+        }
+        var offer = (ObjectNode) (policies.isArray() ? policies.get(0) : policies).deepCopy();
+        offer.set("odrl:assigner", MAPPER.createObjectNode().put("@id", provider.getId()));
+        offer.set("odrl:target", MAPPER.createObjectNode().put("@id", assetId));
+
+        var contractRequest = MAPPER.createObjectNode()
+                .put("@type", "ContractRequest")
+                .put("counterPartyAddress", provider.getProtocolUrl())
+                .put("protocol", protocol);
+        contractRequest.set("@context", MAPPER.createArrayNode().add(dataset.path("@context")).add(context()));
+        contractRequest.set("policy", offer);
+        return contractRequest;
+    }
+
+    private ObjectNode context() {
+        return MAPPER.createObjectNode().put("@vocab", EDC_NAMESPACE);
+    }
+
+    private JsonNode body(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("%s %s: %d %s".formatted(response.request().method(), response.request().uri().getPath(), response.statusCode(), response.body()));
+        }
+        try {
+            return MAPPER.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest post(String path, JsonNode body) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        var builder = HttpRequest.newBuilder(URI.create(managementUrl + path));
+        headers.forEach(builder::header);
+        return builder;
+    }
+}
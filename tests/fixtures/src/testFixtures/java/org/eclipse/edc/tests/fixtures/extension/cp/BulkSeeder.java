@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.extension.cp;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Creates the entities of a {@link SeedGenerator} through the management API, keeping a bounded number of requests in
+ * flight over a pool of keep-alive connections.
+ */
+final class BulkSeeder {
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    private final URI managementUrl;
+    private final Map<String, String> headers;
+    private final int concurrency;
+    private final AtomicLong created = new AtomicLong();
+    private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+    BulkSeeder(URI managementUrl, Map<String, String> headers, int concurrency) {
+        this.managementUrl = managementUrl;
+        this.headers = headers;
+        this.concurrency = concurrency;
+    }
+
+    SeedReport seed(SeedGenerator generator) {
+        var start = System.nanoTime();
+        // policies first, as the contract definitions refer to them
+        sendAll(generator.policies().stream().map(this::policyDefinitionRequest));
+        sendAll(generator.assets().flatMap(seed -> Stream.of(assetRequest(seed.asset()), contractDefinitionRequest(seed.contractDefinition()))));
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Seeding failed after %d entities: %s".formatted(created.get(), String.join(", ", failures)));
+        }
+        return new SeedReport(created.get(), elapsed);
+    }
+
+    private void sendAll(Stream<HttpRequest> requests) {
+        var inFlight = new Semaphore(concurrency);
+        try {
+            var iterator = requests.iterator();
+            while (iterator.hasNext() && failures.isEmpty()) {
+                inFlight.acquire();
+                CLIENT.sendAsync(iterator.next(), HttpResponse.BodyHandlers.ofString())
+                        .whenComplete((response, error) -> {
+                            try {
+                                onResponse(response, error);
+                            } finally {
+                                inFlight.release();
+                            }
+                        });
+            }
+            // waits for the requests still in flight
+            inFlight.acquire(concurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void onResponse(HttpResponse<String> response, Throwable error) {
+        if (error != null) {
+            addFailure(error.toString());
+        } else if (response.statusCode() / 100 == 2 || response.statusCode() == 409) {
+            // a conflict means the entity was seeded by a previous run with the same seed
+            created.incrementAndGet();
+        } else {
+            addFailure("%s %s: %d %s".formatted(response.request().method(), response.request().uri().getPath(), response.statusCode(), response.body()));
+        }
+    }
+
+    private void addFailure(String failure) {
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+            failures.add(failure);
+        }
+    }
+
+    private HttpRequest policyDefinitionRequest(SeedGenerator.PolicySpec spec) {
+        return post("/v3/policydefinitions", Json.createObjectBuilder()
+                .add("@context", context())
+                .add("@id", spec.id())
+                .add("@type", "PolicyDefinition")
+                .add("policy", spec.policy())
+                .build());
+    }
+
+    private HttpRequest assetRequest(SeedGenerator.AssetSpec spec) {
+        return post("/v3/assets", Json.createObjectBuilder()
+                .add("@context", context())
+                .add("@id", spec.id())
+                .add("properties", Json.createObjectBuilder(spec.properties()))
+                .add("dataAddress", Json.createObjectBuilder(spec.dataAddress()).add("@type", "DataAddress"))
+                .build());
+    }
+
+    private HttpRequest contractDefinitionRequest(SeedGenerator.ContractDefinitionSpec spec) {
+        var assetSelector = Json.createObjectBuilder()
+                .add("@type", "Criterion")
+                .add("operandLeft", EDC_NAMESPACE + "id")
+                .add("operator", "=")
+                .add("operandRight", spec.assetId());
+        return post("/v3/contractdefinitions", Json.createObjectBuilder()
+                .add("@context", context())
+                .add("@id", spec.id())
+                .add("@type", "ContractDefinition")
+                .add("accessPolicyId", spec.accessPolicyId())
+                .add("contractPolicyId", spec.contractPolicyId())
+                .add("assetsSelector", Json.createArrayBuilder().add(assetSelector))
+                .build());
+    }
+
+    private JsonObject context() {
+        return Json.createObjectBuilder().add("@vocab", EDC_NAMESPACE).build();
+    }
+
+    private HttpRequest post(String path, JsonObject body) {
+        var builder = HttpRequest.newBuilder(URI.create(managementUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.extension.cp;
+
+/**
+ * A page of a catalog requested through {@link ControlPlaneApi#requestCatalogPage(ControlPlaneApi, int, int)}.
+ *
+ * @param datasets the number of datasets in the page
+ * @param bytes    the size of the management API response body
+ */
+public record CatalogPage(int datasets, long bytes) {
+}
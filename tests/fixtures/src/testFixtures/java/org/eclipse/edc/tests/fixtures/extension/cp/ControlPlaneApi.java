@@ -14,20 +14,43 @@
 
 package org.eclipse.edc.tests.fixtures.extension.cp;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import jakarta.json.Json;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.ThrowingConsumer;
 import org.eclipse.edc.connector.controlplane.test.system.utils.Participant;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
 import org.eclipse.edc.junit.extensions.ComponentRuntimeContext;
 import org.eclipse.edc.junit.utils.LazySupplier;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import static io.restassured.RestAssured.given;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 import static org.eclipse.edc.web.spi.configuration.ApiContext.MANAGEMENT;
 import static org.eclipse.edc.web.spi.configuration.ApiContext.PROTOCOL;
 
@@ -35,16 +58,134 @@ public class ControlPlaneApi extends Participant {
 
     public static final String API_KEY = "password";
 
+    private static final ObjectMapper CATALOG_MAPPER = new ObjectMapper();
+    private static final Duration EVENT_FALLBACK_POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration EVENT_CONFIRMATION_INTERVAL = Duration.ofMillis(50);
+
+    private TransferProcessEvents transferEvents;
+    private ControlPlaneTransport transport;
+
     public static ControlPlaneApi forContext(ComponentRuntimeContext ctx) {
         var id = ctx.getConfig().getString("edc.participant.id");
+        var transferEvents = new TransferProcessEvents();
+        ctx.getService(EventRouter.class).register(TransferProcessEvent.class, new EventSubscriber() {
+            @Override
+            public <E extends Event> void on(EventEnvelope<E> event) {
+                if (event.getPayload() instanceof TransferProcessEvent transferProcessEvent) {
+                    transferEvents.onEvent(transferProcessEvent.getTransferProcessId(), transferProcessEvent.getClass().getSimpleName());
+                }
+            }
+        });
+
         return ControlPlaneApi.Builder.newInstance()
                 .id(id)
                 .name("name")
                 .managementUrl(ctx.getEndpoint(MANAGEMENT))
                 .protocolUrl(ctx.getEndpoint(PROTOCOL))
+                .transferEvents(transferEvents)
                 .build();
     }
 
+    /**
+     * Returns a view of this participant that uses the given protocol. Views share the endpoints, the timeout and the
+     * transfer events of the participant, but not its protocol, so tests running concurrently can use different
+     * protocol versions against the same runtime without calling {@link #setProtocol(String, String)} on it.
+     *
+     * @param protocol the protocol
+     * @param path     the protocol version path
+     * @return the view
+     */
+    public ControlPlaneApi withProtocol(String protocol, String path) {
+        var view = view(transport);
+        view.setProtocol(protocol, path);
+        return view;
+    }
+
+    /**
+     * Returns a view of this participant that sends its requests through the given transport, e.g. a pooled one for
+     * load-style scenarios. The view uses the default protocol, the views returned by
+     * {@link #withProtocol(String, String)} keep the transport.
+     *
+     * @param transport the transport
+     * @return the view
+     */
+    public ControlPlaneApi withTransport(ControlPlaneTransport transport) {
+        return view(transport);
+    }
+
+    public ControlPlaneTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Returns the non-blocking counterpart of this participant, for scenarios that keep more negotiations and transfers
+     * in flight than there could be blocked threads. It uses the protocol, the timeout and the transfer events of this
+     * participant, and sends its requests through the streaming client of its transport.
+     *
+     * @return the async API
+     */
+    public AsyncControlPlaneApi async() {
+        return new AsyncControlPlaneApi(controlPlaneManagement.get(), Map.of("x-api-key", API_KEY), protocol, timeout,
+                transferEvents, transport.streamingClient());
+    }
+
+    /**
+     * Wait for the transfer process to reach the state. When the runtime notifies its transfer process events, the
+     * wait completes as soon as the event is received, otherwise it falls back to polling the management API.
+     *
+     * @param transferProcessId the transfer process id
+     * @param state             the expected state
+     */
+    @Override
+    public void awaitTransferToBeInState(String transferProcessId, TransferProcessStates state) {
+        if (transferEvents == null) {
+            super.awaitTransferToBeInState(transferProcessId, state);
+            return;
+        }
+
+        var event = transferEvents.awaitState(transferProcessId, state.name());
+        var deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            while (true) {
+                try {
+                    event.get(EVENT_FALLBACK_POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    // no event received, fall back to polling
+                }
+                // events may be published before the state change is committed, so the state is confirmed once
+                if (state.name().equals(getTransferProcessState(transferProcessId))) {
+                    return;
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new AssertionError("Transfer process %s did not reach state %s within %s".formatted(transferProcessId, state, timeout));
+                }
+                if (event.isDone()) {
+                    Thread.sleep(EVENT_CONFIRMATION_INTERVAL.toMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            transferEvents.cancel(transferProcessId, event);
+        }
+    }
+
+    /**
+     * Creates the policy definitions, assets and contract definitions of the generator, with at most the given number
+     * of management requests in flight. Entities that already exist are counted as seeded, so a run can be repeated
+     * with the same deterministic generator.
+     *
+     * @param generator   the entities to be created
+     * @param concurrency the maximum number of requests in flight
+     * @return the number of entities seeded and the time it took
+     */
+    public SeedReport seed(SeedGenerator generator, int concurrency) {
+        return new BulkSeeder(controlPlaneManagement.get(), Map.of("x-api-key", API_KEY), concurrency).seed(generator);
+    }
+
     public void waitForDataPlane() {
         await().atMost(timeout)
                 .untilAsserted(() -> {
@@ -60,6 +201,44 @@ public class ControlPlaneApi extends Participant {
                 });
     }
 
+    /**
+     * Request a page of the provider catalog through the management API, with the current protocol.
+     *
+     * @param provider the provider
+     * @param offset   the offset of the first dataset
+     * @param limit    the maximum number of datasets
+     * @return the number of datasets and the response size
+     */
+    public CatalogPage requestCatalogPage(ControlPlaneApi provider, int offset, int limit) {
+        var requestBody = Json.createObjectBuilder()
+                .add("@context", Json.createObjectBuilder().add("@vocab", EDC_NAMESPACE))
+                .add("@type", "CatalogRequest")
+                .add("counterPartyId", provider.getId())
+                .add("counterPartyAddress", provider.getProtocolUrl())
+                .add("protocol", protocol)
+                .add("querySpec", Json.createObjectBuilder().add("offset", offset).add("limit", limit))
+                .build();
+
+        var body = baseManagementRequest()
+                .contentType(ContentType.JSON)
+                .body(requestBody.toString())
+                .when()
+                .post("/v3/catalog/request")
+                .then()
+                .log().ifError()
+                .statusCode(200)
+                .extract().body().asByteArray();
+
+        try {
+            var catalog = CATALOG_MAPPER.readTree(body);
+            var datasets = catalog.has("dcat:dataset") ? catalog.get("dcat:dataset") : catalog.path("dataset");
+            var count = datasets.isArray() ? datasets.size() : datasets.isObject() ? 1 : 0;
+            return new CatalogPage(count, body.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Get the EDR from the EDR cache by transfer process id.
      *
@@ -93,7 +272,7 @@ public class ControlPlaneApi extends Participant {
      * @param bodyAssertion assertion to be verified on the body
      */
     public void pullData(DataAddress edr, Map<String, String> queryParams, ThrowingConsumer<String> bodyAssertion) {
-        var data = given()
+        var data = transport.configure(given())
                 .baseUri(edr.getStringProperty("endpoint"))
                 .header("Authorization", edr.getStringProperty("authorization"))
                 .queryParams(queryParams)
@@ -107,6 +286,96 @@ public class ControlPlaneApi extends Participant {
         Assertions.assertThat(data).satisfies(bodyAssertion);
     }
 
+    /**
+     * Pull data from provider using EDR, without asserting anything on the response.
+     *
+     * @param edr         endpoint data reference
+     * @param queryParams query parameters
+     * @return the response
+     */
+    public ExtractableResponse<Response> pullDataResponse(DataAddress edr, Map<String, String> queryParams) {
+        return transport.configure(given())
+                .baseUri(edr.getStringProperty("endpoint"))
+                .header("Authorization", edr.getStringProperty("authorization"))
+                .queryParams(queryParams)
+                .when()
+                .get()
+                .then()
+                .extract();
+    }
+
+    /**
+     * Pull data from provider using EDR, consuming the body as a stream without buffering it.
+     *
+     * @param edr         endpoint data reference
+     * @param queryParams query parameters
+     * @return the number of bytes received
+     */
+    public long pullDataStream(DataAddress edr, Map<String, String> queryParams) {
+        try {
+            var response = transport.streamingClient().send(pullDataRequest(edr, queryParams), HttpResponse.BodyHandlers.ofInputStream());
+            try (var body = response.body()) {
+                Assertions.assertThat(response.statusCode()).isEqualTo(200);
+                return body.transferTo(OutputStream.nullOutputStream());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Pull data from provider using EDR, measuring the time until the first byte of the body is received. The rest of
+     * the body is consumed and discarded.
+     *
+     * @param edr         endpoint data reference
+     * @param queryParams query parameters
+     * @return the time to first byte
+     */
+    public Duration pullDataFirstByte(DataAddress edr, Map<String, String> queryParams) {
+        var start = System.nanoTime();
+        try {
+            var response = transport.streamingClient().send(pullDataRequest(edr, queryParams), HttpResponse.BodyHandlers.ofInputStream());
+            try (var body = response.body()) {
+                Assertions.assertThat(response.statusCode()).isEqualTo(200);
+                Assertions.assertThat(body.read()).isNotNegative();
+                var firstByte = Duration.ofNanos(System.nanoTime() - start);
+                body.transferTo(OutputStream.nullOutputStream());
+                return firstByte;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private ControlPlaneApi view(ControlPlaneTransport transport) {
+        var view = ControlPlaneApi.Builder.newInstance()
+                .id(getId())
+                .name(getName())
+                .managementUrl(controlPlaneManagement)
+                .protocolUrl(controlPlaneProtocol)
+                .transferEvents(transferEvents)
+                .transport(transport)
+                .build();
+        view.timeout = timeout;
+        return view;
+    }
+
+    private HttpRequest pullDataRequest(DataAddress edr, Map<String, String> queryParams) {
+        var query = queryParams.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), UTF_8) + "=" + URLEncoder.encode(e.getValue(), UTF_8))
+                .collect(Collectors.joining("&"));
+        return HttpRequest.newBuilder(URI.create(edr.getStringProperty("endpoint") + "?" + query))
+                .header("Authorization", edr.getStringProperty("authorization"))
+                .GET()
+                .build();
+    }
+
     public static class Builder extends Participant.Builder<ControlPlaneApi, ControlPlaneApi.Builder> {
 
         protected Builder() {
@@ -127,11 +396,25 @@ public class ControlPlaneApi extends Participant {
             return this;
         }
 
+        public Builder transferEvents(TransferProcessEvents transferEvents) {
+            participant.transferEvents = transferEvents;
+            return this;
+        }
+
+        public Builder transport(ControlPlaneTransport transport) {
+            participant.transport = transport;
+            return this;
+        }
+
         @Override
         public ControlPlaneApi build() {
             super.build();
+            if (participant.transport == null) {
+                participant.transport = ControlPlaneTransport.perRequest();
+            }
             var headers = Map.of("x-api-key", API_KEY);
-            participant.enrichManagementRequest = req -> req.headers(headers);
+            var transport = participant.transport;
+            participant.enrichManagementRequest = req -> transport.configure(req.headers(headers));
             return participant;
         }
     }
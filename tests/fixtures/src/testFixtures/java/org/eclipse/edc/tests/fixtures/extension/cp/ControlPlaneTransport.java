@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.extension.cp;
+
+import io.restassured.specification.RequestSpecification;
+
+import java.net.http.HttpClient;
+
+/**
+ * How a {@link ControlPlaneApi} sends its requests. The management calls and the data pulls go through RestAssured,
+ * configured by {@link #configure(RequestSpecification)}, so they keep its assertion API; the streamed data pulls and
+ * the requests of the {@link AsyncControlPlaneApi} go through the {@link #streamingClient()}. A transport is closed
+ * by whoever created it, once the participants that send their requests through it are done.
+ */
+public interface ControlPlaneTransport extends AutoCloseable {
+
+    /**
+     * The RestAssured default: a new HTTP client, and therefore a new connection, for every request.
+     *
+     * @return the transport
+     */
+    static ControlPlaneTransport perRequest() {
+        return new PerRequestTransport();
+    }
+
+    /**
+     * A shared pool of keep-alive connections, for load-style scenarios in which connection setup would otherwise
+     * dominate the measured latency.
+     *
+     * @param maxConnections the maximum number of connections, per host and in total
+     * @param version        the HTTP version of the streaming client; with {@link HttpClient.Version#HTTP_2} the
+     *                       client upgrades the connections the server allows to, and falls back to HTTP/1.1 otherwise
+     * @return the transport
+     */
+    static ControlPlaneTransport pooled(int maxConnections, HttpClient.Version version) {
+        return new PooledTransport(maxConnections, version);
+    }
+
+    /**
+     * Configures a RestAssured request to be sent through this transport.
+     *
+     * @param request the request
+     * @return the configured request
+     */
+    RequestSpecification configure(RequestSpecification request);
+
+    /**
+     * The client used to pull data as a stream and to send the non-blocking requests.
+     *
+     * @return the client
+     */
+    HttpClient streamingClient();
+
+    /**
+     * The connection statistics of the requests configured by this transport so far.
+     *
+     * @return the statistics
+     */
+    Stats stats();
+
+    /**
+     * Closes the connections kept open by this transport.
+     */
+    @Override
+    void close();
+
+    /**
+     * Connection statistics of a transport.
+     *
+     * @param requests    the number of requests sent
+     * @param connections the number of connections opened to send them
+     */
+    record Stats(long requests, long connections) {
+
+        public long reusedRequests() {
+            return Math.max(requests - connections, 0);
+        }
+
+        public double reuseRatio() {
+            return requests == 0 ? 0 : reusedRequests() / (double) requests;
+        }
+
+        @Override
+        public String toString() {
+            return "%d requests over %d connections: %.1f%% sent on a reused connection".formatted(requests, connections, reuseRatio() * 100);
+        }
+    }
+}
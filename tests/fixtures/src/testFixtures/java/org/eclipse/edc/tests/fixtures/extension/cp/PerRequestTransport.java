@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.extension.cp;
+
+import io.restassured.specification.RequestSpecification;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Leaves the RestAssured requests as they are: every request builds its own HTTP client and opens a new connection.
+ */
+final class PerRequestTransport implements ControlPlaneTransport {
+
+    private static final HttpClient STREAMING_CLIENT = HttpClient.newHttpClient();
+
+    private final LongAdder requests = new LongAdder();
+
+    @Override
+    public RequestSpecification configure(RequestSpecification request) {
+        return request.filter((requestSpec, responseSpec, context) -> {
+            requests.increment();
+            return context.next(requestSpec, responseSpec);
+        });
+    }
+
+    @Override
+    public HttpClient streamingClient() {
+        return STREAMING_CLIENT;
+    }
+
+    @Override
+    public Stats stats() {
+        var sent = requests.sum();
+        return new Stats(sent, sent);
+    }
+
+    @Override
+    public void close() {
+        // every request closes its own connection
+    }
+}
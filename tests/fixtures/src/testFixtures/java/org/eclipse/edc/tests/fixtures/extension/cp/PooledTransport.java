@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.extension.cp;
+
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.AbstractHttpMessage;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.DefaultedHttpParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends the RestAssured requests through one shared HTTP client, whose pool keeps the connections alive, and counts
+ * the connections the pool opens.
+ */
+final class PooledTransport implements ControlPlaneTransport {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder connections = new LongAdder();
+    private final CloseableHttpClient client;
+    private final RestAssuredConfig config;
+    private final HttpClient streamingClient;
+
+    PooledTransport(int maxConnections, HttpClient.Version version) {
+        // the pool creates a connection through the factory every time it opens one
+        HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connectionFactory = (route, connectionConfig) -> {
+            connections.increment();
+            return ManagedHttpClientConnectionFactory.INSTANCE.create(route, connectionConfig);
+        };
+        var connectionManager = new PoolingHttpClientConnectionManager(connectionFactory);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        client = new RestAssuredClient(HttpClientBuilder.create().setConnectionManager(connectionManager).build());
+
+        config = RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(() -> client)
+                .reuseHttpClientInstance());
+        streamingClient = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+    }
+
+    @Override
+    public RequestSpecification configure(RequestSpecification request) {
+        return request.config(config)
+                .filter((requestSpec, responseSpec, context) -> {
+                    requests.increment();
+                    return context.next(requestSpec, responseSpec);
+                });
+    }
+
+    @Override
+    public HttpClient streamingClient() {
+        return streamingClient;
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats(requests.sum(), connections.sum());
+    }
+
+    @Override
+    public void close() {
+        // closes the pool and its connections as well
+        try {
+            client.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adapts the client built by {@link HttpClientBuilder} to RestAssured, which applies its configuration, e.g. the
+     * cookie and redirect policies, to the parameters of the client: the built client does not support them, so they
+     * are kept here and applied to every request instead.
+     */
+    @SuppressWarnings("deprecation")
+    private static final class RestAssuredClient extends CloseableHttpClient {
+
+        private final CloseableHttpClient delegate;
+        private final HttpParams params = new BasicHttpParams();
+
+        RestAssuredClient(CloseableHttpClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+            if (request instanceof AbstractHttpMessage message) {
+                message.setParams(new DefaultedHttpParams(message.getParams(), params));
+            }
+            return delegate.execute(target, request, context);
+        }
+
+        @Override
+        public HttpParams getParams() {
+            return params;
+        }
+
+        @Override
+        public ClientConnectionManager getConnectionManager() {
+            return delegate.getConnectionManager();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.extension.cp;
+
+import jakarta.json.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.connector.controlplane.test.system.utils.PolicyFixtures.noConstraintPolicy;
+
+/**
+ * Generates the entities seeded by {@link ControlPlaneApi#seed(SeedGenerator, int)}: the policy definitions, created
+ * first and shared by the contract definitions, and then the assets, each one with its contract definition.
+ */
+public interface SeedGenerator {
+
+    /**
+     * Generator deterministic from the seed: the same seed always produces the same ids and properties. Every asset is
+     * offered through its own contract definition, with a single no-constraint policy definition as access and
+     * contract policy.
+     *
+     * @param seed        the seed
+     * @param assets      the number of assets
+     * @param dataAddress the data address of the assets
+     * @return the generator
+     */
+    static SeedGenerator deterministic(long seed, int assets, Map<String, Object> dataAddress) {
+        var policyId = "seed-%d-no-constraint".formatted(seed);
+        return new SeedGenerator() {
+            @Override
+            public List<PolicySpec> policies() {
+                return List.of(new PolicySpec(policyId, noConstraintPolicy()));
+            }
+
+            @Override
+            public Stream<AssetSeed> assets() {
+                return IntStream.range(0, assets).mapToObj(index -> {
+                    // a random per index, so the values do not depend on the order the stream is consumed
+                    var random = new SplittableRandom(seed * 31 + index);
+                    var assetId = id(seed, "asset", index);
+                    var properties = Map.<String, Object>of(
+                            "description", "seeded asset %d".formatted(index),
+                            "size", String.valueOf(random.nextInt(1, 1_000_000))
+                    );
+                    return new AssetSeed(
+                            new AssetSpec(assetId, properties, dataAddress),
+                            new ContractDefinitionSpec(id(seed, "contract-definition", index), policyId, policyId, assetId)
+                    );
+                });
+            }
+        };
+    }
+
+    private static String id(long seed, String type, int index) {
+        return UUID.nameUUIDFromBytes("%d:%s:%d".formatted(seed, type, index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * The policy definitions to be created before the assets.
+     */
+    List<PolicySpec> policies();
+
+    /**
+     * The assets with their contract definitions. The stream is consumed lazily.
+     */
+    Stream<AssetSeed> assets();
+
+    record PolicySpec(String id, JsonObject policy) {
+    }
+
+    record AssetSpec(String id, Map<String, Object> properties, Map<String, Object> dataAddress) {
+    }
+
+    record ContractDefinitionSpec(String id, String accessPolicyId, String contractPolicyId, String assetId) {
+    }
+
+    record AssetSeed(AssetSpec asset, ContractDefinitionSpec contractDefinition) {
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.extension.cp;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a {@link ControlPlaneApi#seed(SeedGenerator, int)}.
+ *
+ * @param entities the number of entities created, or already existing
+ * @param elapsed  the time the seeding took
+ */
+public record SeedReport(long entities, Duration elapsed) {
+
+    public double entitiesPerSecond() {
+        return elapsed.isZero() ? 0 : entities / (elapsed.toNanos() / 1_000_000_000.0);
+    }
+
+    @Override
+    public String toString() {
+        return "%d entities seeded in %d ms: %.1f entities/s".formatted(entities, elapsed.toMillis(), entitiesPerSecond());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.extension.cp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.eclipse.edc.tests.fixtures.ResourceReservations.port;
+
+/**
+ * Local HTTP receiver for the transfer process events of a runtime that is not running in-process. The runtime is
+ * configured through {@link #env()} to send its transfer process events as callbacks to this receiver, which feeds
+ * them to {@link #events()}.
+ */
+public class TransferEventWebhook {
+
+    private static final String PATH = "/transfer-events";
+    // the runtime maps the underscores of the variable names to dots, so the id must not contain any separator
+    private static final String CALLBACK_ID = "transferevents";
+    private static final String ENV_PREFIX = "EDC_CALLBACK_" + CALLBACK_ID.toUpperCase();
+
+    private static final Map<String, TransferEventWebhook> RECEIVERS = new ConcurrentHashMap<>();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final TransferProcessEvents events = new TransferProcessEvents();
+    private HttpServer server;
+
+    public TransferProcessEvents events() {
+        return events;
+    }
+
+    /**
+     * Returns the events received for the runtime with the given environment. They are the ones of this webhook,
+     * unless the runtime has been configured with another one, e.g. because it is a container reused from another test
+     * class: in that case they are the ones of that webhook, when it runs in this JVM.
+     *
+     * @param env the runtime environment
+     * @return the events, empty when the webhook of the runtime does not run in this JVM
+     */
+    public synchronized Optional<TransferProcessEvents> eventsFor(Map<String, String> env) {
+        var uri = env.get(ENV_PREFIX + "_URI");
+        if (server != null && uri().equals(uri)) {
+            return Optional.of(events);
+        }
+        return Optional.ofNullable(uri).map(RECEIVERS::get).map(TransferEventWebhook::events);
+    }
+
+    /**
+     * Starts the receiver, if not yet started, and returns the environment that configures a runtime to call it.
+     *
+     * @return the runtime environment variables
+     */
+    public synchronized Map<String, String> env() {
+        if (server == null) {
+            start();
+        }
+        return Map.of(
+                ENV_PREFIX + "_URI", uri(),
+                ENV_PREFIX + "_EVENTS", "transfer.process",
+                ENV_PREFIX + "_TRANSACTIONAL", "false"
+        );
+    }
+
+    private void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", port()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext(PATH, this::handle);
+        server.start();
+        RECEIVERS.put(uri(), this);
+    }
+
+    private String uri() {
+        return "http://localhost:%d%s".formatted(server.getAddress().getPort(), PATH);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            var envelope = mapper.readTree(exchange.getRequestBody());
+            var transferProcessId = envelope.path("payload").path("transferProcessId").asText(null);
+            var type = envelope.path("type").asText(null);
+            if (transferProcessId != null && type != null) {
+                events.onEvent(transferProcessId, type);
+            }
+            exchange.sendResponseHeaders(204, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+}
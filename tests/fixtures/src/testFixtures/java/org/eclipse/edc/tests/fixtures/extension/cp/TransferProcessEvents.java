@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.extension.cp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the transfer process state changes notified by a runtime, and completes the waiters registered for a state
+ * as soon as the corresponding event is received. A transfer process is forgotten once it reaches a final state, and
+ * a waiter once it completes, so that long runs do not accumulate them.
+ */
+public class TransferProcessEvents {
+
+    private static final String EVENT_PREFIX = "TransferProcess";
+    private static final Set<String> FINAL_STATES = Set.of("COMPLETED", "TERMINATED", "DEPROVISIONED");
+
+    private final Map<String, String> latestStates = new ConcurrentHashMap<>();
+    private final Map<String, List<Waiter>> waiters = new ConcurrentHashMap<>();
+
+    /**
+     * Notifies a transfer process event.
+     *
+     * @param transferProcessId the transfer process id
+     * @param eventType         the event type, either the event class name (e.g. {@code TransferProcessStarted}) or
+     *                          the event name (e.g. {@code transfer.process.started})
+     */
+    public void onEvent(String transferProcessId, String eventType) {
+        var state = toState(eventType);
+        var isFinal = FINAL_STATES.contains(state);
+        if (isFinal) {
+            latestStates.remove(transferProcessId);
+        } else {
+            latestStates.put(transferProcessId, state);
+        }
+        var reached = new ArrayList<Waiter>();
+        waiters.computeIfPresent(transferProcessId, (id, transferWaiters) -> {
+            transferWaiters.removeIf(waiter -> waiter.state().equals(state) && reached.add(waiter));
+            // no further event is expected for a final state, the remaining waiters fall back to polling
+            return isFinal || transferWaiters.isEmpty() ? null : transferWaiters;
+        });
+        reached.forEach(waiter -> waiter.future().complete(null));
+    }
+
+    /**
+     * Returns a future that completes when the transfer process reaches the state. Completes immediately if the last
+     * event received for the transfer process already corresponds to that state. The waiter is removed when the future
+     * completes, also when the caller completes it, e.g. with a timeout.
+     *
+     * @param transferProcessId the transfer process id
+     * @param state             the state name, e.g. {@code STARTED}
+     * @return the future
+     */
+    public CompletableFuture<Void> awaitState(String transferProcessId, String state) {
+        var future = new CompletableFuture<Void>();
+        if (state.equals(latestStates.get(transferProcessId))) {
+            future.complete(null);
+            return future;
+        }
+        waiters.compute(transferProcessId, (id, transferWaiters) -> {
+            var list = transferWaiters == null ? new ArrayList<Waiter>() : transferWaiters;
+            list.add(new Waiter(state, future));
+            return list;
+        });
+        // the event may have been received in between
+        if (state.equals(latestStates.get(transferProcessId))) {
+            future.complete(null);
+        }
+        future.whenComplete((result, failure) -> cancel(transferProcessId, future));
+        return future;
+    }
+
+    /**
+     * Removes a waiter that is not needed anymore.
+     *
+     * @param transferProcessId the transfer process id
+     * @param future            the future returned by {@link #awaitState(String, String)}
+     */
+    public void cancel(String transferProcessId, CompletableFuture<Void> future) {
+        waiters.computeIfPresent(transferProcessId, (id, transferWaiters) -> {
+            transferWaiters.removeIf(waiter -> waiter.future() == future);
+            return transferWaiters.isEmpty() ? null : transferWaiters;
+        });
+    }
+
+    private String toState(String eventType) {
+        var name = eventType.contains(".") ? eventType.substring(eventType.lastIndexOf('.') + 1) : eventType;
+        if (name.startsWith(EVENT_PREFIX)) {
+            name = name.substring(EVENT_PREFIX.length());
+        }
+        return name.toUpperCase();
+    }
+
+    private record Waiter(String state, CompletableFuture<Void> future) {
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.metrics;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eclipse.edc.compatibility.tests.boot.BootTimelineRecorder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Boot timeline of a runtime: the time spent by every extension in {@code initialize}, {@code prepare} and
+ * {@code start}, in the order the extensions were booted. The time before the first extension lifecycle event, spent
+ * loading the configuration and resolving the dependency graph, is reported as resolution.
+ *
+ * @param runtime          the runtime name
+ * @param bootMillis       the time from the boot start to the runtime being ready
+ * @param resolutionMillis the time before the first extension lifecycle event
+ * @param extensions       the extension timings
+ */
+public record BootTimeline(String runtime, double bootMillis, double resolutionMillis, List<Extension> extensions) {
+
+    public static final Path DIRECTORY = Path.of("build", "boot-timelines");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final Set<String> DATASOURCE_KEYWORDS = Set.of("sql", "datasource", "data source", "schema", "pool", "transaction");
+
+    /**
+     * Reads the timeline written by a runtime, which does not contain the runtime name.
+     *
+     * @param runtime the runtime name
+     * @param json    the timeline
+     * @return the timeline
+     */
+    public static BootTimeline read(String runtime, InputStream json) {
+        try {
+            var timeline = MAPPER.readValue(json, BootTimeline.class);
+            return new BootTimeline(runtime, timeline.bootMillis(), timeline.resolutionMillis(), timeline.extensions());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The timeline of an in-process runtime, recorded from its console output.
+     *
+     * @param runtime  the runtime name
+     * @param recorder the recorder of the runtime
+     * @return the timeline, or null if the runtime is not ready yet
+     */
+    static BootTimeline of(String runtime, BootTimelineRecorder recorder) {
+        if (!recorder.isReady()) {
+            return null;
+        }
+        var extensions = recorder.extensions().stream()
+                .map(timings -> new Extension(timings.name(), timings.initializeMillis(), timings.prepareMillis(), timings.startMillis()))
+                .toList();
+        return new BootTimeline(runtime, recorder.bootMillis(), recorder.resolutionMillis(), extensions);
+    }
+
+    /**
+     * The time spent by the extensions that set up the datasources, the connection pools and the database schema.
+     *
+     * @return the time in milliseconds
+     */
+    public double datasourceMillis() {
+        return extensions.stream()
+                .filter(extension -> DATASOURCE_KEYWORDS.stream().anyMatch(extension.name().toLowerCase()::contains))
+                .mapToDouble(Extension::totalMillis)
+                .sum();
+    }
+
+    /**
+     * The slowest extensions, by total time.
+     *
+     * @param count the number of extensions
+     * @return the extensions, the slowest first
+     */
+    public List<Extension> slowest(int count) {
+        return extensions.stream()
+                .sorted(Comparator.comparingDouble(Extension::totalMillis).reversed())
+                .limit(count)
+                .toList();
+    }
+
+    /**
+     * Writes the timeline as JSON into {@link #DIRECTORY}, in a file named after the runtime.
+     *
+     * @return the timeline file
+     */
+    public Path write() {
+        var file = DIRECTORY.resolve(runtime.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+        try {
+            Files.createDirectories(DIRECTORY);
+            MAPPER.writeValue(file.toFile(), this);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Timings of an extension.
+     *
+     * @param name             the extension name
+     * @param initializeMillis the time spent in {@code initialize}, including the injection
+     * @param prepareMillis    the time spent in {@code prepare}
+     * @param startMillis      the time spent in {@code start}
+     */
+    public record Extension(String name, double initializeMillis, double prepareMillis, double startMillis) {
+
+        public double totalMillis() {
+            return initializeMillis + prepareMillis + startMillis;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.metrics;
+
+import org.eclipse.edc.compatibility.tests.boot.BootTimelineRecorder;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the boot timelines of the runtimes of a test class and, after all the tests, writes them into
+ * {@link BootTimeline#DIRECTORY} and publishes the boot time and the slowest extensions of every runtime as JUnit report
+ * entries.
+ * <p>
+ * The timelines of the in-process runtimes are recorded from their console output, which is prefixed with the runtime
+ * name, so this extension must be registered before them. {@code System.out} is replaced once, while at least one test
+ * class records, and every line is handed over to the class that records on the thread that printed it: the runtimes
+ * of a class boot on the thread of its {@code beforeAll}, so classes running concurrently do not see each other's
+ * runtimes. The Docker runtimes write their own timeline, which is handed over through
+ * {@link #collect(ExtensionContext, BootTimeline)} and kept with the test class.
+ */
+public class BootTimelines implements BeforeAllCallback, AfterAllCallback {
+
+    private static final int SLOWEST = 5;
+    private static final Pattern ANSI_CODES = Pattern.compile("\u001B\\[[;\\d]*m");
+    private static final Pattern CONSOLE_LINE = Pattern.compile("^(?:\\[(?<prefix>[^\\]]+)] )?(?:SEVERE|WARNING|INFO|DEBUG) \\S+ (?:\\[(?<inner>[^\\]]+)] )?(?<message>.*)$");
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(BootTimelines.class);
+    private static final Object LOCK = new Object();
+    // the recording class of every thread, the tee is installed as long as there is one
+    private static final Map<Thread, BootTimelines> RECORDING = new ConcurrentHashMap<>();
+    private static PrintStream originalOut;
+
+    private final Map<String, BootTimelineRecorder> recorders = new ConcurrentHashMap<>();
+    private Thread thread;
+    // the class recording on the same thread before this one, e.g. the enclosing class of a nested one
+    private BootTimelines previous;
+
+    /**
+     * Adds the timeline of a runtime that is not booted in-process to the ones of the test class.
+     *
+     * @param context  the context of the test class
+     * @param timeline the timeline
+     */
+    public static void collect(ExtensionContext context, BootTimeline timeline) {
+        collected(context).add(timeline);
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        synchronized (LOCK) {
+            if (RECORDING.isEmpty()) {
+                originalOut = System.out;
+                System.setOut(new PrintStream(new LineTee(originalOut), true, StandardCharsets.UTF_8));
+            }
+            thread = Thread.currentThread();
+            previous = RECORDING.put(thread, this);
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        try {
+            var timelines = new ArrayList<BootTimeline>();
+            recorders.forEach((runtime, recorder) -> Optional.ofNullable(BootTimeline.of(runtime, recorder)).ifPresent(timelines::add));
+            recorders.clear();
+            timelines.addAll(collected(context));
+
+            for (var timeline : timelines) {
+                var file = timeline.write();
+                context.publishReportEntry("boot-" + timeline.runtime(), "booted in %.0f ms: %.0f ms resolution, %.0f ms datasources and schema, written to %s".formatted(
+                        timeline.bootMillis(), timeline.resolutionMillis(), timeline.datasourceMillis(), file.toAbsolutePath()));
+                context.publishReportEntry("boot-" + timeline.runtime() + "-slowest", timeline.slowest(SLOWEST).stream()
+                        .map(extension -> "%.1f ms %s (initialize %.1f, prepare %.1f, start %.1f)".formatted(
+                                extension.totalMillis(), extension.name(), extension.initializeMillis(), extension.prepareMillis(), extension.startMillis()))
+                        .collect(Collectors.joining("; ")));
+            }
+        } finally {
+            stopRecording();
+        }
+    }
+
+    private void stopRecording() {
+        synchronized (LOCK) {
+            if (thread == null) {
+                return;
+            }
+            if (previous != null) {
+                RECORDING.put(thread, previous);
+            } else {
+                RECORDING.remove(thread, this);
+            }
+            thread = null;
+            previous = null;
+            if (RECORDING.isEmpty()) {
+                System.setOut(originalOut);
+                originalOut = null;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<BootTimeline> collected(ExtensionContext context) {
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent("collected", key -> new CopyOnWriteArrayList<BootTimeline>(), List.class);
+    }
+
+    private static void onLine(String line, long nanoTime) {
+        var recording = RECORDING.get(Thread.currentThread());
+        if (recording == null) {
+            return;
+        }
+        var matcher = CONSOLE_LINE.matcher(ANSI_CODES.matcher(line).replaceAll(""));
+        if (!matcher.matches()) {
+            return;
+        }
+        var runtime = matcher.group("prefix") != null ? matcher.group("prefix") : matcher.group("inner");
+        if (runtime == null) {
+            return;
+        }
+        // the first line logged by a runtime marks its boot start
+        recording.recorders.computeIfAbsent(runtime, name -> new BootTimelineRecorder(nanoTime))
+                .onMessage(matcher.group("message"), nanoTime);
+    }
+
+    /**
+     * Passes the output through, and hands every complete line over to the class recording on the printing thread.
+     * Lines are assembled per thread, so that the output of concurrent threads does not get mixed up.
+     */
+    private static class LineTee extends OutputStream {
+
+        private final OutputStream delegate;
+        private final ThreadLocal<ByteArrayOutputStream> line = ThreadLocal.withInitial(ByteArrayOutputStream::new);
+
+        LineTee(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            scan(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            for (var i = offset; i < offset + length; i++) {
+                scan(bytes[i]);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        private void scan(int b) {
+            var buffer = line.get();
+            if (b == '\n') {
+                onLine(buffer.toString(StandardCharsets.UTF_8).stripTrailing(), System.nanoTime());
+                buffer.reset();
+            } else {
+                buffer.write(b);
+            }
+        }
+    }
+}
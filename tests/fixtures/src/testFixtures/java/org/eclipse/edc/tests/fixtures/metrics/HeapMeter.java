@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.metrics;
+
+import java.net.URI;
+
+/**
+ * Measures the peak heap usage of a runtime, whether it runs in-process or in a container.
+ */
+public interface HeapMeter {
+
+    /**
+     * The heap of the current JVM, see {@link HeapUsage}.
+     *
+     * @return the meter
+     */
+    static HeapMeter local() {
+        return new HeapMeter() {
+            @Override
+            public void resetPeak() {
+                HeapUsage.resetPeak();
+            }
+
+            @Override
+            public long peak() {
+                return HeapUsage.peak();
+            }
+        };
+    }
+
+    /**
+     * The heap of a runtime that serves its peak heap usage over HTTP, under {@code <endpoint>/peak}.
+     *
+     * @param endpoint the heap usage endpoint
+     * @return the meter
+     */
+    static HeapMeter remote(URI endpoint) {
+        return new RemoteHeapMeter(endpoint);
+    }
+
+    /**
+     * Resets the peak heap usage.
+     */
+    void resetPeak();
+
+    /**
+     * Returns the peak heap usage since the last {@link #resetPeak()}.
+     *
+     * @return peak heap usage in bytes
+     */
+    long peak();
+}
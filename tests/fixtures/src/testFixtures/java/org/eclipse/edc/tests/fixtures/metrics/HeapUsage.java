@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.stream.Stream;
+
+/**
+ * Tracks the peak heap usage of the current JVM, which includes the test client and every in-process runtime.
+ */
+public class HeapUsage {
+
+    private HeapUsage() {
+    }
+
+    /**
+     * Resets the peak usage of all the heap memory pools.
+     */
+    public static void resetPeak() {
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    /**
+     * Returns the peak heap usage since the last {@link #resetPeak()}. Pools peak independently, so the sum is an
+     * upper bound of the real peak.
+     *
+     * @return peak heap usage in bytes
+     */
+    public static long peak() {
+        return heapPools().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    }
+
+    private static Stream<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(MemoryPoolMXBean::isValid);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of a {@link LoadRun}: the number of cycles, the throughput and the latency percentiles of every phase, in
+ * milliseconds.
+ *
+ * @param name          the name of the run
+ * @param concurrency   the number of concurrent workers
+ * @param completed     the number of completed cycles
+ * @param failed        the number of failed cycles
+ * @param failures      the first failures
+ * @param elapsedMillis the duration of the run
+ * @param throughput    the completed cycles per second
+ * @param phases        the latencies per phase
+ */
+public record LoadReport(String name, int concurrency, long completed, long failed, List<String> failures,
+                         long elapsedMillis, double throughput, Map<String, Latencies> phases) {
+
+    public static final Path DIRECTORY = Path.of("build", "load-reports");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static LoadReport of(String name, int concurrency, long completed, long failed, List<String> failures, Duration elapsed, Map<String, Histogram> histograms) {
+        var phases = new TreeMap<String, Latencies>();
+        histograms.forEach((phase, histogram) -> phases.put(phase, Latencies.of(histogram)));
+        var throughput = elapsed.isZero() ? 0 : completed / (elapsed.toNanos() / 1_000_000_000.0);
+        return new LoadReport(name, concurrency, completed, failed, failures, elapsed.toMillis(), throughput, phases);
+    }
+
+    /**
+     * Reads a report written by {@link #write()}.
+     *
+     * @param file the report file
+     * @return the report
+     */
+    public static LoadReport read(Path file) {
+        try {
+            return MAPPER.readValue(file.toFile(), LoadReport.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the report as JSON into {@link #DIRECTORY}, in a file named after the run.
+     *
+     * @return the report file
+     */
+    public Path write() {
+        var file = DIRECTORY.resolve(name.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+        try {
+            Files.createDirectories(DIRECTORY);
+            MAPPER.writeValue(file.toFile(), this);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        var summary = new StringBuilder("[%s] %d cycles (%d failed) with %d workers in %d ms: %.2f cycles/s".formatted(
+                name, completed, failed, concurrency, elapsedMillis, throughput));
+        phases.forEach((phase, latencies) -> summary.append("%n  %-14s p50 %8.2f ms, p99 %8.2f ms, p999 %8.2f ms".formatted(
+                phase, latencies.p50(), latencies.p99(), latencies.p999())));
+        return summary.toString();
+    }
+
+    /**
+     * Latency percentiles of a phase, in milliseconds.
+     *
+     * @param count the number of recorded values
+     * @param p50   the median
+     * @param p99   the 99th percentile
+     * @param p999  the 99.9th percentile
+     * @param max   the maximum
+     */
+    public record Latencies(long count, double p50, double p99, double p999, double max) {
+
+        static Latencies of(Histogram histogram) {
+            return new Latencies(histogram.getTotalCount(),
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getValueAtPercentile(99.9)),
+                    toMillis(histogram.getMaxValue()));
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
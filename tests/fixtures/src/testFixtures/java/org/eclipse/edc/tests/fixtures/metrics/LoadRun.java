@@ -0,0 +1,281 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Drives a scenario with a number of concurrent workers, each one repeating the scenario cycle until either the
+ * total number of cycles or the duration of the run is reached, or, for an asynchronous scenario, with that number of
+ * cycles in flight. The time spent by every cycle in each of its phases is recorded in a histogram per phase.
+ */
+public class LoadRun {
+
+    public static final String CONCURRENCY_ENV = "EDC_TEST_LOAD_CONCURRENCY";
+    public static final String CYCLES_ENV = "EDC_TEST_LOAD_CYCLES";
+    public static final String DURATION_ENV = "EDC_TEST_LOAD_DURATION";
+    public static final String CYCLE_PHASE = "cycle";
+
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    private final int concurrency;
+    private final long cycles;
+    private final Duration duration;
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final AtomicLong started = new AtomicLong();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Creates a run.
+     *
+     * @param concurrency the number of concurrent workers
+     * @param cycles      the total number of cycles, ignored when a duration is given
+     * @param duration    the duration of the run, or null to stop after the number of cycles
+     */
+    public LoadRun(int concurrency, long cycles, Duration duration) {
+        this.concurrency = concurrency;
+        this.cycles = cycles;
+        this.duration = duration;
+    }
+
+    /**
+     * Creates a run configured through the {@link #CONCURRENCY_ENV}, {@link #CYCLES_ENV} and {@link #DURATION_ENV}
+     * (ISO-8601, e.g. {@code PT1M}) environment variables.
+     *
+     * @return the run
+     */
+    public static LoadRun fromEnv() {
+        var concurrency = Integer.parseInt(Objects.requireNonNullElse(System.getenv(CONCURRENCY_ENV), "10"));
+        var cycles = Long.parseLong(Objects.requireNonNullElse(System.getenv(CYCLES_ENV), "100"));
+        var duration = System.getenv(DURATION_ENV);
+        return new LoadRun(concurrency, cycles, duration == null ? null : Duration.parse(duration));
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Runs the scenario and blocks until all the workers are done. A failed cycle is counted and does not stop the
+     * run, its phases recorded before the failure are kept.
+     *
+     * @param name  the name of the run, used as report name
+     * @param cycle the scenario cycle
+     * @return the report of the run
+     */
+    public LoadReport run(String name, Cycle cycle) {
+        var executor = Executors.newFixedThreadPool(concurrency);
+        var deadline = duration == null ? Long.MAX_VALUE : System.nanoTime() + duration.toNanos();
+        var start = System.nanoTime();
+        try {
+            for (var i = 0; i < concurrency; i++) {
+                executor.execute(() -> {
+                    while (hasNext(deadline)) {
+                        runCycle(cycle);
+                    }
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.DAYS)) {
+                throw new IllegalStateException("Load run %s did not terminate".formatted(name));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return LoadReport.of(name, concurrency, completed.sum(), failed.sum(), List.copyOf(failures), elapsed, histograms);
+    }
+
+    /**
+     * Runs an asynchronous scenario from the calling thread, with the concurrency as the maximum number of cycles in
+     * flight: a new cycle is started only when one completes, so the run never queues more work than the runtimes
+     * take. Blocks until all the cycles are done. A failed cycle is counted and does not stop the run.
+     *
+     * @param name  the name of the run, used as report name
+     * @param cycle the asynchronous scenario cycle
+     * @return the report of the run
+     */
+    public LoadReport runAsync(String name, AsyncCycle cycle) {
+        var inFlight = new Semaphore(concurrency);
+        var deadline = duration == null ? Long.MAX_VALUE : System.nanoTime() + duration.toNanos();
+        var start = System.nanoTime();
+        try {
+            while (hasNext(deadline)) {
+                inFlight.acquire();
+                startCycle(cycle).whenComplete((result, error) -> inFlight.release());
+            }
+            // waits for the cycles still in flight
+            inFlight.acquire(concurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return LoadReport.of(name, concurrency, completed.sum(), failed.sum(), List.copyOf(failures), elapsed, histograms);
+    }
+
+    /**
+     * Returns a recorder for phases timed outside the cycles, e.g. by hooks installed in a runtime under load. The
+     * phases it records are part of the report of this run.
+     *
+     * @return the recorder
+     */
+    public Phases phases() {
+        return new Phases();
+    }
+
+    private boolean hasNext(long deadline) {
+        if (duration != null) {
+            return System.nanoTime() < deadline;
+        }
+        return started.incrementAndGet() <= cycles;
+    }
+
+    private void runCycle(Cycle cycle) {
+        var phases = new Phases();
+        var start = System.nanoTime();
+        try {
+            cycle.run(phases);
+            phases.record(CYCLE_PHASE, Duration.ofNanos(System.nanoTime() - start));
+            completed.increment();
+        } catch (Throwable e) {
+            onFailure(e);
+        }
+    }
+
+    private CompletionStage<?> startCycle(AsyncCycle cycle) {
+        var phases = new Phases();
+        var start = System.nanoTime();
+        CompletionStage<?> stage;
+        try {
+            stage = cycle.start(phases);
+        } catch (Throwable e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        return stage.whenComplete((result, error) -> {
+            if (error == null) {
+                phases.record(CYCLE_PHASE, Duration.ofNanos(System.nanoTime() - start));
+                completed.increment();
+            } else {
+                onFailure(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            }
+        });
+    }
+
+    private void onFailure(Throwable e) {
+        failed.increment();
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+            failures.add(e.toString());
+        }
+    }
+
+    /**
+     * A cycle of the scenario.
+     */
+    @FunctionalInterface
+    public interface Cycle {
+        void run(Phases phases) throws Exception;
+    }
+
+    /**
+     * A cycle of the scenario that does not block: it starts its work and returns a stage that completes with it.
+     */
+    @FunctionalInterface
+    public interface AsyncCycle {
+        CompletionStage<?> start(Phases phases);
+    }
+
+    /**
+     * Records the time spent by a cycle in its phases.
+     */
+    public class Phases {
+
+        /**
+         * Runs and times a phase.
+         *
+         * @param phase the phase name
+         * @param task  the phase
+         * @return the result of the phase
+         */
+        public <T> T time(String phase, Callable<T> task) throws Exception {
+            var start = System.nanoTime();
+            var result = task.call();
+            record(phase, Duration.ofNanos(System.nanoTime() - start));
+            return result;
+        }
+
+        /**
+         * Runs and times a phase that has no result.
+         *
+         * @param phase the phase name
+         * @param task  the phase
+         */
+        public void time(String phase, Runnable task) {
+            var start = System.nanoTime();
+            task.run();
+            record(phase, Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        /**
+         * Times an asynchronous phase, from the moment it is started until its future completes successfully.
+         *
+         * @param phase the phase name
+         * @param task  starts the phase
+         * @return the future of the phase
+         */
+        public <T> CompletableFuture<T> timeAsync(String phase, Supplier<CompletableFuture<T>> task) {
+            var start = System.nanoTime();
+            return task.get().thenApply(result -> {
+                record(phase, Duration.ofNanos(System.nanoTime() - start));
+                return result;
+            });
+        }
+
+        /**
+         * Records a phase timed by the cycle itself.
+         *
+         * @param phase   the phase name
+         * @param elapsed the time spent in the phase
+         */
+        public void record(String phase, Duration elapsed) {
+            histograms.computeIfAbsent(phase, p -> new ConcurrentHistogram(3))
+                    .recordValue(TimeUnit.NANOSECONDS.toMicros(elapsed.toNanos()));
+        }
+    }
+}
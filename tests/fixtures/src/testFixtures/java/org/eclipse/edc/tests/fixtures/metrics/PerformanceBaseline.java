@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reference throughput and p99 cycle latency of a set of runs, e.g. one per pairing of runtimes, kept in a JSON file
+ * checked into the repository.
+ *
+ * @param runs the reference per run name
+ */
+public record PerformanceBaseline(Map<String, Entry> runs) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Reads the baseline, returning an empty one if the file does not exist.
+     *
+     * @param file the baseline file
+     * @return the baseline
+     */
+    public static PerformanceBaseline read(Path file) {
+        if (!Files.exists(file)) {
+            return new PerformanceBaseline(Map.of());
+        }
+        try {
+            return MAPPER.readValue(file.toFile(), PerformanceBaseline.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a baseline from the reports of the runs.
+     *
+     * @param reports the reports per run name
+     * @return the baseline
+     */
+    public static PerformanceBaseline of(Map<String, LoadReport> reports) {
+        var runs = new TreeMap<String, Entry>();
+        reports.forEach((name, report) -> runs.put(name, Entry.of(report)));
+        return new PerformanceBaseline(runs);
+    }
+
+    public void write(Path file) {
+        try {
+            MAPPER.writeValue(file.toFile(), this);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reference of a run.
+     *
+     * @param throughput the completed cycles per second
+     * @param p99        the p99 latency of a whole cycle, in milliseconds
+     */
+    public record Entry(double throughput, double p99) {
+
+        public static Entry of(LoadReport report) {
+            return new Entry(report.throughput(), report.phases().get(LoadRun.CYCLE_PHASE).p99());
+        }
+    }
+}
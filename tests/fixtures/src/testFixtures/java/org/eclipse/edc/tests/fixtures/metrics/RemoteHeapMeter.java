@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Reads the peak heap usage of a runtime running in a container from its heap usage endpoint.
+ */
+final class RemoteHeapMeter implements HeapMeter {
+
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    private final URI endpoint;
+
+    RemoteHeapMeter(URI endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public void resetPeak() {
+        send(HttpRequest.newBuilder(URI.create(endpoint + "/peak/reset")).POST(HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    @Override
+    public long peak() {
+        return Long.parseLong(send(HttpRequest.newBuilder(URI.create(endpoint + "/peak")).GET().build()).trim());
+    }
+
+    private String send(HttpRequest request) {
+        try {
+            var response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("%s %s: %d %s".formatted(request.method(), request.uri(), response.statusCode(), response.body()));
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
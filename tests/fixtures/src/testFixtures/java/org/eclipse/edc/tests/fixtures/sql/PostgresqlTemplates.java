@@ -0,0 +1,248 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.sql;
+
+import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Creates the databases of the runtimes as clones of a template that already contains the schema of the runtime
+ * flavour, so that the runtime does not need to bootstrap it at boot.
+ * <p>
+ * A template is identified by the flavour name and a fingerprint of the runtime dependencies, so it gets replaced when
+ * they change. When no template exists yet, the database is created empty and the runtime bootstraps the schema as
+ * usual. The tables found once the runtimes have booted are recorded by {@link #bootstrapped()}: after all the runtimes
+ * of the test class have been stopped, the tables created by the tests are dropped, the recorded ones are emptied and
+ * the database is copied into the template, as a database cannot be cloned while connections to it are open.
+ * <p>
+ * Templates live as long as the PostgreSQL server, so they are reused by the following test classes when the server
+ * is a {@link SharedPostgresqlEndToEndExtension}.
+ * <p>
+ * Must be registered after the {@link PostgresqlEndToEndExtension} and before the runtimes, while {@link #bootstrapped()}
+ * must be registered after them.
+ */
+public class PostgresqlTemplates implements AfterAllCallback {
+
+    private static final String TEMPLATE_PREFIX = "tpl_";
+    private static final int FINGERPRINT_LENGTH = 12;
+    private static final String URL_KEY = "edc.datasource.default.url";
+    private static final String USER_KEY = "edc.datasource.default.user";
+    private static final String PASSWORD_KEY = "edc.datasource.default.password";
+    private static final String REPORT_KEY = "postgresql-templates";
+    // used to create and drop the other databases, since a database cannot be dropped or cloned while connected to it
+    private static final String MAINTENANCE_DATABASE = "postgres";
+    private static final Duration DISCONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final PostgresqlEndToEndExtension postgresql;
+    private final Map<String, String> pendingTemplates = new LinkedHashMap<>();
+    private final Map<String, List<String>> bootstrappedTables = new HashMap<>();
+
+    public PostgresqlTemplates(PostgresqlEndToEndExtension postgresql) {
+        this.postgresql = postgresql;
+    }
+
+    /**
+     * Fingerprint of the dependencies of the runtimes started in-process, computed from the test classpath.
+     *
+     * @return the fingerprint
+     */
+    public static String classpathFingerprint() {
+        var entries = System.getProperty("java.class.path").split(File.pathSeparator);
+        var fingerprint = new StringBuilder();
+        for (var entry : entries) {
+            var file = new File(entry);
+            fingerprint.append(file.getName()).append(':').append(file.length()).append(':').append(file.lastModified()).append('\n');
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Creates the database, cloning the template of the flavour when available. A database left with the same name
+     * by a previous test class on a shared server is replaced.
+     *
+     * @param name        the database name
+     * @param flavour     the runtime flavour, e.g. {@code stable-connector}
+     * @param fingerprint the fingerprint of the flavour dependencies
+     */
+    public void createDatabase(String name, String flavour, Supplier<String> fingerprint) {
+        var database = name.toLowerCase();
+        var template = templateName(flavour, fingerprint.get());
+        try (var connection = connect(MAINTENANCE_DATABASE)) {
+            if (exists(connection, database)) {
+                execute(connection, "DROP DATABASE %s".formatted(database));
+            }
+            if (exists(connection, template)) {
+                execute(connection, "CREATE DATABASE %s TEMPLATE %s".formatted(database, template));
+                return;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot create database %s of flavour %s".formatted(database, flavour), e);
+        }
+        postgresql.createDatabase(name);
+        pendingTemplates.putIfAbsent(template, database);
+    }
+
+    /**
+     * Records the tables of the databases that are going to be copied into a template, to be registered after the
+     * runtimes so that they have bootstrapped their schema, but no test has run yet.
+     *
+     * @return the callback
+     */
+    public BeforeAllCallback bootstrapped() {
+        return context -> {
+            for (var database : pendingTemplates.values()) {
+                try (var connection = connect(database)) {
+                    bootstrappedTables.put(database, tables(connection));
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Cannot read the schema of database %s".formatted(database), e);
+                }
+            }
+        };
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        try {
+            for (var pending : pendingTemplates.entrySet()) {
+                createTemplate(context, pending.getKey(), pending.getValue());
+            }
+        } finally {
+            pendingTemplates.clear();
+            bootstrappedTables.clear();
+        }
+    }
+
+    private void createTemplate(ExtensionContext context, String template, String source) {
+        var tables = bootstrappedTables.getOrDefault(source, List.of());
+        if (tables.isEmpty()) {
+            // bootstrapped() is not registered, or no runtime has used the database, e.g. it is served by a reused container
+            context.publishReportEntry(REPORT_KEY, "No template %s: database %s has not been bootstrapped".formatted(template, source));
+            return;
+        }
+        try (var connection = connect(MAINTENANCE_DATABASE)) {
+            if (hasConnections(connection, source)) {
+                // e.g. the database is used by a container left running for reuse
+                context.publishReportEntry(REPORT_KEY, "No template %s: database %s is still in use".formatted(template, source));
+                return;
+            }
+            try (var sourceConnection = connect(source)) {
+                for (var table : tables(sourceConnection)) {
+                    if (!tables.contains(table)) {
+                        execute(sourceConnection, "DROP TABLE IF EXISTS %s CASCADE".formatted(table));
+                    }
+                }
+                execute(sourceConnection, "TRUNCATE %s RESTART IDENTITY CASCADE".formatted(String.join(", ", tables)));
+            }
+            // the server ends the session of a closed connection asynchronously
+            await().atMost(DISCONNECT_TIMEOUT).until(() -> !hasConnections(connection, source));
+            var flavourPrefix = template.substring(0, template.lastIndexOf('_') + 1);
+            for (var outdated : templatesStartingWith(connection, flavourPrefix)) {
+                execute(connection, "DROP DATABASE IF EXISTS %s".formatted(outdated));
+            }
+            execute(connection, "CREATE DATABASE %s TEMPLATE %s".formatted(template, source));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot create template %s from database %s".formatted(template, source), e);
+        }
+    }
+
+    private Connection connect(String database) throws SQLException {
+        var config = postgresql.configFor(database);
+        return DriverManager.getConnection(config.getString(URL_KEY), config.getString(USER_KEY), config.getString(PASSWORD_KEY));
+    }
+
+    private boolean exists(Connection connection, String database) throws SQLException {
+        try (var statement = connection.prepareStatement("SELECT 1 FROM pg_database WHERE datname = ?")) {
+            statement.setString(1, database);
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private boolean hasConnections(Connection connection, String database) throws SQLException {
+        try (var statement = connection.prepareStatement("SELECT 1 FROM pg_stat_activity WHERE datname = ?")) {
+            statement.setString(1, database);
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private List<String> tables(Connection connection) throws SQLException {
+        try (var statement = connection.prepareStatement("SELECT quote_ident(schemaname) || '.' || quote_ident(tablename) FROM pg_tables " +
+                "WHERE schemaname NOT IN ('pg_catalog', 'information_schema')")) {
+            try (var resultSet = statement.executeQuery()) {
+                var tables = new ArrayList<String>();
+                while (resultSet.next()) {
+                    tables.add(resultSet.getString(1));
+                }
+                return tables;
+            }
+        }
+    }
+
+    private List<String> templatesStartingWith(Connection connection, String prefix) throws SQLException {
+        try (var statement = connection.prepareStatement("SELECT datname FROM pg_database WHERE starts_with(datname, ?)")) {
+            statement.setString(1, prefix);
+            try (var resultSet = statement.executeQuery()) {
+                var names = new ArrayList<String>();
+                while (resultSet.next()) {
+                    var name = resultSet.getString(1);
+                    // flavour names may be prefixes of each other
+                    if (name.length() == prefix.length() + FINGERPRINT_LENGTH) {
+                        names.add(name);
+                    }
+                }
+                return names;
+            }
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private String templateName(String flavour, String fingerprint) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+            var flavourName = flavour.toLowerCase().replaceAll("[^a-z0-9]", "_");
+            return TEMPLATE_PREFIX + flavourName + "_" + HexFormat.of().formatHex(digest, 0, FINGERPRINT_LENGTH / 2);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
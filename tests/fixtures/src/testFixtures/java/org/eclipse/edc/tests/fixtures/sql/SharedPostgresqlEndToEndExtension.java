@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.sql;
+
+import org.eclipse.edc.sql.testfixtures.PostgresqlEndToEndExtension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * A PostgreSQL server started by the first test class that registers it and shared by the following ones, so that the
+ * {@link PostgresqlTemplates} created by a class are cloned by the next ones, and so that the databases of reused
+ * containers outlive the class that started them. The server is removed by Testcontainers when the JVM exits.
+ * <p>
+ * The classes have to use distinct database names, unless they run one after the other and recreate their databases
+ * through {@link PostgresqlTemplates#createDatabase}.
+ */
+public final class SharedPostgresqlEndToEndExtension extends PostgresqlEndToEndExtension {
+
+    private static final SharedPostgresqlEndToEndExtension INSTANCE = new SharedPostgresqlEndToEndExtension();
+
+    private boolean started;
+
+    private SharedPostgresqlEndToEndExtension() {
+    }
+
+    public static PostgresqlEndToEndExtension instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public synchronized void beforeAll(ExtensionContext context) {
+        if (!started) {
+            super.beforeAll(context);
+            started = true;
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        // kept running for the next test classes
+    }
+}
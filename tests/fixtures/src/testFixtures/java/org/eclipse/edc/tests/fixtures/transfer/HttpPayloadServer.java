@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.transfer;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.tests.fixtures.ResourceReservations.port;
+
+/**
+ * Local HTTP source and sink of push transfers. The source serves a payload of the size given in its path, the sink
+ * counts the bytes pushed to it and discards them, so neither of them holds the payload on the heap. The server starts
+ * when its first address is requested, and stops after the tests of the class that registers it.
+ */
+public class HttpPayloadServer implements AfterAllCallback {
+
+    private static final String SOURCE_PATH = "/source/";
+    private static final String SINK_PATH = "/sink/";
+    private static final byte[] CHUNK = new byte[64 * 1024];
+
+    private final Map<String, CompletableFuture<Received>> sinks = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * The data address of a source serving a payload of the given size.
+     *
+     * @param size the payload size in bytes
+     * @return the data address properties
+     */
+    public Map<String, Object> sourceDataAddress(long size) {
+        return Map.of(
+                EDC_NAMESPACE + "name", "push-source",
+                EDC_NAMESPACE + "baseUrl", url(SOURCE_PATH + size),
+                EDC_NAMESPACE + "type", "HttpData"
+        );
+    }
+
+    /**
+     * The data destination of a push transfer into the sink.
+     *
+     * @param sinkId the sink id, to be passed to {@link #received(String)}
+     * @return the data destination
+     */
+    public JsonObject sinkDataAddress(String sinkId) {
+        return Json.createObjectBuilder()
+                .add("@type", EDC_NAMESPACE + "DataAddress")
+                .add(EDC_NAMESPACE + "type", "HttpData")
+                .add(EDC_NAMESPACE + "baseUrl", url(SINK_PATH + sinkId))
+                .build();
+    }
+
+    /**
+     * Returns a future that completes when a push into the sink has been fully received.
+     *
+     * @param sinkId the sink id
+     * @return the future
+     */
+    public CompletableFuture<Received> received(String sinkId) {
+        return sinks.computeIfAbsent(sinkId, id -> new CompletableFuture<>());
+    }
+
+    @Override
+    public synchronized void afterAll(ExtensionContext context) {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+        }
+        sinks.clear();
+    }
+
+    private synchronized String url(String path) {
+        if (server == null) {
+            start();
+        }
+        return "http://localhost:%d%s".formatted(server.getAddress().getPort(), path);
+    }
+
+    private void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", port()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext(SOURCE_PATH, this::serve);
+        server.createContext(SINK_PATH, this::sink);
+        // the source and the sink of a transfer are served at the same time
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        try {
+            long size;
+            try {
+                size = Long.parseLong(exchange.getRequestURI().getPath().substring(SOURCE_PATH.length()));
+            } catch (NumberFormatException e) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+            exchange.sendResponseHeaders(200, size);
+            try (var body = exchange.getResponseBody()) {
+                for (var remaining = size; remaining > 0; remaining -= CHUNK.length) {
+                    body.write(CHUNK, 0, (int) Math.min(CHUNK.length, remaining));
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void sink(HttpExchange exchange) throws IOException {
+        var start = System.nanoTime();
+        try {
+            // the data plane may append a path to the destination base URL
+            var sinkId = exchange.getRequestURI().getPath().substring(SINK_PATH.length()).split("/")[0];
+            var buffer = new byte[CHUNK.length];
+            var bytes = 0L;
+            try (var body = exchange.getRequestBody()) {
+                for (var read = body.read(buffer); read >= 0; read = body.read(buffer)) {
+                    bytes += read;
+                }
+            }
+            exchange.sendResponseHeaders(200, -1);
+            received(sinkId).complete(new Received(bytes, start, System.nanoTime()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * A push received by the sink.
+     *
+     * @param bytes      the number of bytes received
+     * @param startNanos the {@link System#nanoTime()} at which the push request was received
+     * @param endNanos   the {@link System#nanoTime()} at which its last byte was received
+     */
+    public record Received(long bytes, long startNanos, long endNanos) {
+
+        public Duration elapsed() {
+            return Duration.ofNanos(endNanos - startNanos);
+        }
+
+        public double megabytesPerSecond() {
+            return (bytes / (1024.0 * 1024.0)) / (Math.max(endNanos - startNanos, 1) / 1_000_000_000.0);
+        }
+    }
+}
@@ -25,26 +25,38 @@ import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.dataplane.spi.Endpoint;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
+import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.PortMapping;
 import org.eclipse.edc.web.spi.configuration.PortMappingRegistry;
 
+import java.time.Duration;
+
 import static jakarta.ws.rs.core.MediaType.WILDCARD;
+import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
 import static jakarta.ws.rs.core.Response.Status.FORBIDDEN;
 import static jakarta.ws.rs.core.Response.Status.UNAUTHORIZED;
 import static java.util.Collections.emptyMap;
-import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.eclipse.edc.tests.fixtures.ResourceReservations.port;
 
 /**
  * Extension that provides a dummy proxy that always return a hardcoded successful response when the token validation
- * succeeds.
+ * succeeds. When the request carries the {@link StreamingPayload#SIZE_PARAM} query parameter, a payload of the
+ * requested size is streamed instead. Successful authorizations are cached, see {@link AuthorizationCache}.
  */
 public class HttpProxyDataPlaneExtension implements ServiceExtension {
 
+    public static final String AUTHORIZATION_CACHE_HEADER = "Edc-Authorization-Cache";
+
     private static final String API_CONTEXT = "proxy";
+    private static final String AUTHORIZATION_CACHE_TTL = "edc.proxy.authorization.cache.ttl";
+    private static final String AUTHORIZATION_CACHE_SIZE = "edc.proxy.authorization.cache.size";
+    private static final long DEFAULT_AUTHORIZATION_CACHE_TTL = 30_000;
+    private static final int DEFAULT_AUTHORIZATION_CACHE_SIZE = 10_000;
 
     @Inject
     private DataPlaneAuthorizationService authorizationService;
@@ -54,16 +66,24 @@ public class HttpProxyDataPlaneExtension implements ServiceExtension {
     private PortMappingRegistry portMappingRegistry;
     @Inject
     private WebService webService;
+    @Inject
+    private AccessTokenDataStore accessTokenDataStore;
+    @Inject
+    private TypeManager typeManager;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var portMapping = new PortMapping(API_CONTEXT, getFreePort(), "/proxy");
+        var portMapping = new PortMapping(API_CONTEXT, port(), "/proxy");
         portMappingRegistry.register(portMapping);
 
         var proxyUrl = "http://localhost:%d%s".formatted(portMapping.port(), portMapping.path());
         generatorService.addGeneratorFunction("HttpData", address -> Endpoint.url(proxyUrl));
 
-        webService.registerResource(API_CONTEXT, new Controller(authorizationService));
+        var ttl = Duration.ofMillis(context.getConfig().getLong(AUTHORIZATION_CACHE_TTL, DEFAULT_AUTHORIZATION_CACHE_TTL));
+        var size = context.getConfig().getInteger(AUTHORIZATION_CACHE_SIZE, DEFAULT_AUTHORIZATION_CACHE_SIZE);
+        var authorizationCache = new AuthorizationCache(accessTokenDataStore, typeManager, context.getClock(), ttl, size);
+
+        webService.registerResource(API_CONTEXT, new Controller(authorizationService, authorizationCache));
     }
 
     @Path("{any:.*}")
@@ -72,9 +92,11 @@ public class HttpProxyDataPlaneExtension implements ServiceExtension {
     public static class Controller {
 
         private final DataPlaneAuthorizationService authorizationService;
+        private final AuthorizationCache authorizationCache;
 
-        Controller(DataPlaneAuthorizationService authorizationService) {
+        Controller(DataPlaneAuthorizationService authorizationService, AuthorizationCache authorizationCache) {
             this.authorizationService = authorizationService;
+            this.authorizationCache = authorizationCache;
         }
 
         @GET
@@ -84,12 +106,24 @@ public class HttpProxyDataPlaneExtension implements ServiceExtension {
                 return Response.status(UNAUTHORIZED).build();
             }
 
-            var sourceDataAddress = authorizationService.authorize(token, emptyMap());
-            if (sourceDataAddress.failed()) {
+            var lookup = authorizationCache.authorize(token, t -> authorizationService.authorize(t, emptyMap()));
+            if (lookup.result().failed()) {
                 return Response.status(FORBIDDEN).build();
             }
+            var cacheStatus = lookup.cached() ? "HIT" : "MISS";
+
+            var queryParameters = requestContext.getUriInfo().getQueryParameters();
+            if (StreamingPayload.isRequested(queryParameters)) {
+                try {
+                    return StreamingPayload.from(queryParameters).toResponse()
+                            .header(AUTHORIZATION_CACHE_HEADER, cacheStatus)
+                            .build();
+                } catch (IllegalArgumentException e) {
+                    return Response.status(BAD_REQUEST).entity(e.getMessage()).build();
+                }
+            }
 
-            return Response.ok("data").build();
+            return Response.ok("data").header(AUTHORIZATION_CACHE_HEADER, cacheStatus).build();
         }
     }
 }
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.tests.fixtures.transfer;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Payload served by the proxy in streaming mode. The body is backed by a sparse file of the requested size, which is
+ * written to the response through {@link FileChannel#transferTo}, so it is never buffered on the heap.
+ */
+public class StreamingPayload implements StreamingOutput {
+
+    public static final String SIZE_PARAM = "payloadSize";
+    public static final String CHUNK_SIZE_PARAM = "payloadChunkSize";
+    public static final String CONTENT_TYPE_PARAM = "payloadContentType";
+
+    private static final long DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final Map<Long, Path> SOURCES = new ConcurrentHashMap<>();
+
+    private final Path source;
+    private final long size;
+    private final long chunkSize;
+    private final boolean chunked;
+    private final String contentType;
+
+    private StreamingPayload(Path source, long size, long chunkSize, boolean chunked, String contentType) {
+        this.source = source;
+        this.size = size;
+        this.chunkSize = chunkSize;
+        this.chunked = chunked;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Whether the request asks for a streamed payload instead of the hardcoded response.
+     *
+     * @param queryParameters the request query parameters
+     * @return true if the payload size parameter is present
+     */
+    public static boolean isRequested(MultivaluedMap<String, String> queryParameters) {
+        return queryParameters.containsKey(SIZE_PARAM);
+    }
+
+    /**
+     * Creates the payload described by the query parameters. When a chunk size is given the response is sent with
+     * chunked transfer encoding and flushed after every chunk, otherwise the content length is set upfront.
+     *
+     * @param queryParameters the request query parameters
+     * @return the payload
+     * @throws IllegalArgumentException if size or chunk size are not positive numbers
+     */
+    public static StreamingPayload from(MultivaluedMap<String, String> queryParameters) {
+        var size = parsePositive(queryParameters.getFirst(SIZE_PARAM), SIZE_PARAM);
+        var chunkSizeParam = queryParameters.getFirst(CHUNK_SIZE_PARAM);
+        var chunked = chunkSizeParam != null;
+        var chunkSize = chunked ? parsePositive(chunkSizeParam, CHUNK_SIZE_PARAM) : DEFAULT_CHUNK_SIZE;
+        var contentType = queryParameters.getFirst(CONTENT_TYPE_PARAM);
+
+        var source = SOURCES.computeIfAbsent(size, StreamingPayload::createSource);
+        return new StreamingPayload(source, size, chunkSize, chunked, contentType == null ? DEFAULT_CONTENT_TYPE : contentType);
+    }
+
+    public Response.ResponseBuilder toResponse() {
+        var response = Response.ok(this, contentType);
+        if (!chunked) {
+            response.header(HttpHeaders.CONTENT_LENGTH, size);
+        }
+        return response;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try (var channel = FileChannel.open(source, READ)) {
+            var target = Channels.newChannel(output);
+            var position = 0L;
+            while (position < size) {
+                position += channel.transferTo(position, Math.min(chunkSize, size - position), target);
+                if (chunked) {
+                    output.flush();
+                }
+            }
+        }
+    }
+
+    private static long parsePositive(String value, String name) {
+        try {
+            var number = Long.parseLong(value);
+            if (number <= 0) {
+                throw new IllegalArgumentException("'%s' must be positive, but was %s".formatted(name, value));
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("'%s' must be a number, but was %s".formatted(name, value), e);
+        }
+    }
+
+    private static Path createSource(long size) {
+        try {
+            var file = Files.createTempFile("proxy-payload-", ".bin");
+            file.toFile().deleteOnExit();
+            try (var randomAccessFile = new RandomAccessFile(file.toFile(), "rw")) {
+                randomAccessFile.setLength(size);
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}